@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for {@link StickyFunc} and {@link SolidFunc}.
+ *
+ * <p>The class is not final, since JMH extends it with generated code.</p>
+ *
+ * @since 0.57
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StickyFuncBenchmark {
+
+    /**
+     * Number of distinct keys.
+     */
+    private static final int KEYS = 1024;
+
+    /**
+     * Sticky func with a bounded cache.
+     */
+    private Func<Integer, Integer> sticky;
+
+    /**
+     * Solid func with a bounded cache.
+     */
+    private Func<Integer, Integer> solid;
+
+    /**
+     * Key to look up next.
+     */
+    private int key;
+
+    /**
+     * Prepare funcs.
+     */
+    @Setup
+    public void setup() {
+        this.sticky = new StickyFunc<>(
+            input -> input * 2, StickyFuncBenchmark.KEYS / 2
+        );
+        this.solid = new SolidFunc<>(
+            input -> input * 2, StickyFuncBenchmark.KEYS / 2
+        );
+    }
+
+    /**
+     * Look up keys in {@link StickyFunc}, half of them miss.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer sticky() throws Exception {
+        this.key = (this.key + 1) % StickyFuncBenchmark.KEYS;
+        return this.sticky.apply(this.key);
+    }
+
+    /**
+     * Look up the same key in {@link SolidFunc} from many threads.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer solidHit() throws Exception {
+        return this.solid.apply(1);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link Mapped} and {@link Filtered}.
+ *
+ * <p>The class is not final, since JMH extends it with generated code.</p>
+ *
+ * @since 0.57
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedBenchmark {
+
+    /**
+     * Number of elements.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Elements to iterate.
+     */
+    private Integer[] items;
+
+    /**
+     * Prepare elements.
+     */
+    @Setup
+    public void setup() {
+        this.items = new Integer[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.items[idx] = idx;
+        }
+    }
+
+    /**
+     * Map all elements.
+     * @return Sum of mapped elements
+     */
+    @Benchmark
+    public long mapped() {
+        long sum = 0L;
+        final Mapped<Integer> iter = new Mapped<>(
+            item -> item * 2, new IteratorOf<>(this.items)
+        );
+        while (iter.hasNext()) {
+            sum += iter.next();
+        }
+        return sum;
+    }
+
+    /**
+     * Filter all elements.
+     * @return Sum of filtered elements
+     */
+    @Benchmark
+    public long filtered() {
+        long sum = 0L;
+        final Filtered<Integer> iter = new Filtered<>(
+            item -> item % 2 == 0, new IteratorOf<>(this.items)
+        );
+        while (iter.hasNext()) {
+            sum += iter.next();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link Sticky} and {@link Solid}.
+ *
+ * <p>The class is not final, since JMH extends it with generated code.</p>
+ *
+ * @since 0.57
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StickyBenchmark {
+
+    /**
+     * Sticky scalar, already calculated.
+     */
+    private Scalar<String> sticky;
+
+    /**
+     * Solid scalar, already calculated.
+     */
+    private Scalar<String> solid;
+
+    /**
+     * Prepare scalars.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.sticky = new Sticky<>(() -> "cached");
+        this.sticky.value();
+        this.solid = new Solid<>(() -> "cached");
+        this.solid.value();
+    }
+
+    /**
+     * Read a cached value from {@link Sticky}.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String stickyHit() throws Exception {
+        return this.sticky.value();
+    }
+
+    /**
+     * Read a cached value from {@link Solid}.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String solidHit() throws Exception {
+        return this.solid.value();
+    }
+}
@@ -23,16 +23,22 @@
  */
 package org.cactoos.bytes;
 
-import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.BuffersInput;
 
 /**
  * Digest Envelope.
  *
+ * <p>Digests are used again by later calls in the same thread. To
+ * calculate several digests in one read of the input use
+ * {@link DigestsOf}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
@@ -84,19 +90,32 @@ public abstract class DigestEnvelope implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (InputStream stream = this.source.stream()) {
-            final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
+        final Digests digests = new Digests();
+        final MessageDigest msg = digests.take(this.algorithm);
+        try {
+            List<ByteBuffer> buffers = Collections.emptyList();
+            if (this.source instanceof BuffersInput) {
+                buffers = ((BuffersInput) this.source).buffers();
+            }
+            if (buffers.isEmpty()) {
+                try (InputStream stream = this.source.stream()) {
+                    final byte[] buf = new byte[this.size];
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len < 0) {
+                            break;
+                        }
+                        msg.update(buf, 0, len);
+                    }
+                }
+            } else {
+                for (final ByteBuffer buffer : buffers) {
+                    msg.update(buffer);
                 }
-                msg.update(buf, 0, len);
             }
             return msg.digest();
-        } catch (final NoSuchAlgorithmException ex) {
-            throw new IOException(ex);
+        } finally {
+            digests.give(this.algorithm, msg);
         }
     }
 }
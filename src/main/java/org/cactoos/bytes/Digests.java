@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Message digests kept by every thread to be used again.
+ *
+ * <p>A digest is taken out while it is used, so a digest calculated
+ * while reading the input of another one gets its own instance.
+ * Instances of this class share the digests of the thread.</p>
+ *
+ * @since 0.57
+ */
+final class Digests {
+
+    /**
+     * Idle digests of the current thread, by algorithm.
+     */
+    private static final ThreadLocal<Map<String, MessageDigest>> IDLE =
+        ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Take a digest, an idle one if there is, a new one otherwise.
+     * @param algorithm The algorithm
+     * @return Digest, reset
+     * @throws IOException If there is no such algorithm
+     */
+    MessageDigest take(final String algorithm) throws IOException {
+        MessageDigest msg = Digests.IDLE.get().remove(algorithm);
+        if (msg == null) {
+            try {
+                msg = MessageDigest.getInstance(algorithm);
+            } catch (final NoSuchAlgorithmException ex) {
+                throw new IOException(ex);
+            }
+        }
+        return msg;
+    }
+
+    /**
+     * Give back a digest that was taken.
+     * @param algorithm The algorithm it was taken by
+     * @param msg The digest
+     */
+    void give(final String algorithm, final MessageDigest msg) {
+        msg.reset();
+        Digests.IDLE.get().put(algorithm, msg);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Bytes;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.io.BuffersInput;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Several digests of {@link Input}, calculated in one read of it.
+ *
+ * <pre>{@code
+ * final Map<String, Bytes> sums = new DigestsOf(
+ *     new InputOf(file), "MD5", "SHA-1", "SHA-256"
+ * ).value();
+ * final Text sha = new HexOf(sums.get("SHA-256"));
+ * }</pre>
+ *
+ * <p>The map keeps the order of the algorithms.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class DigestsOf implements Scalar<Map<String, Bytes>> {
+
+    /**
+     * The input.
+     */
+    private final Input source;
+
+    /**
+     * The buffer size.
+     */
+    private final int size;
+
+    /**
+     * The algorithms.
+     */
+    private final Iterable<String> algorithms;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input input, final String... algrthms) {
+        this(input, new IterableOf<>(algrthms));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input input, final Iterable<String> algrthms) {
+        this(input, 16 << 10, algrthms);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input input, final int max,
+        final Iterable<String> algrthms) {
+        this.source = input;
+        this.size = max;
+        this.algorithms = algrthms;
+    }
+
+    @Override
+    public Map<String, Bytes> value() throws Exception {
+        final Digests digests = new Digests();
+        final Map<String, MessageDigest> msgs = new LinkedHashMap<>();
+        try {
+            for (final String algorithm : this.algorithms) {
+                if (!msgs.containsKey(algorithm)) {
+                    msgs.put(algorithm, digests.take(algorithm));
+                }
+            }
+            this.read(msgs.values());
+            final Map<String, Bytes> sums = new LinkedHashMap<>();
+            for (final Map.Entry<String, MessageDigest> msg : msgs.entrySet()) {
+                sums.put(msg.getKey(), new BytesOf(msg.getValue().digest()));
+            }
+            return Collections.unmodifiableMap(sums);
+        } finally {
+            for (final Map.Entry<String, MessageDigest> msg : msgs.entrySet()) {
+                digests.give(msg.getKey(), msg.getValue());
+            }
+        }
+    }
+
+    /**
+     * Read the input into all digests.
+     * @param msgs The digests
+     * @throws Exception If fails
+     */
+    private void read(final Iterable<MessageDigest> msgs) throws Exception {
+        List<ByteBuffer> buffers = Collections.emptyList();
+        if (this.source instanceof BuffersInput) {
+            buffers = ((BuffersInput) this.source).buffers();
+        }
+        if (buffers.isEmpty()) {
+            try (InputStream stream = this.source.stream()) {
+                final byte[] buf = new byte[this.size];
+                while (true) {
+                    final int len = stream.read(buf);
+                    if (len < 0) {
+                        break;
+                    }
+                    for (final MessageDigest msg : msgs) {
+                        msg.update(buf, 0, len);
+                    }
+                }
+            }
+        } else {
+            for (final ByteBuffer buffer : buffers) {
+                for (final MessageDigest msg : msgs) {
+                    msg.update(buffer.duplicate());
+                }
+            }
+        }
+    }
+}
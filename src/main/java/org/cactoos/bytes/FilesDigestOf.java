@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import org.cactoos.Bytes;
+import org.cactoos.io.Directory;
+
+/**
+ * Digest of the files of a directory, or of any paths under it.
+ *
+ * <pre>{@code
+ * final Text sha = new HexOf(
+ *     new FilesDigestOf(
+ *         dir, new Directory(dir, skip), "SHA-256"
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>Only regular files are digested, folders and other paths are
+ * skipped. The files are sorted by their paths relative to the
+ * directory, with {@code /} between names, so the order they are listed
+ * in, by a parallel {@link Directory} for example, does not matter.
+ * The result is the digest of the path of every file, a zero byte and
+ * the digest of its content, in that order. It changes when a file is
+ * renamed, added, removed or changed, but not when an empty folder is
+ * added. The paths are kept in memory, the files are read one by one.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class FilesDigestOf implements Bytes {
+
+    /**
+     * The directory.
+     */
+    private final Path base;
+
+    /**
+     * The paths under it.
+     */
+    private final Iterable<Path> paths;
+
+    /**
+     * The algorithm.
+     */
+    private final String algorithm;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param algrthm The algorithm
+     */
+    public FilesDigestOf(final Path dir, final String algrthm) {
+        this(dir, new Directory(dir), algrthm);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param paths The paths under it
+     * @param algrthm The algorithm
+     */
+    public FilesDigestOf(final Path dir, final Iterable<Path> paths,
+        final String algrthm) {
+        this.base = dir;
+        this.paths = paths;
+        this.algorithm = algrthm;
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        final Map<String, Path> files = new TreeMap<>();
+        for (final Path path : this.paths) {
+            if (Files.isRegularFile(path)) {
+                files.put(this.name(path), path);
+            }
+        }
+        final Digests digests = new Digests();
+        final MessageDigest msg = digests.take(this.algorithm);
+        final MessageDigest content = digests.take(this.algorithm);
+        try {
+            final byte[] buf = new byte[16 << 10];
+            for (final Map.Entry<String, Path> file : files.entrySet()) {
+                msg.update(file.getKey().getBytes(StandardCharsets.UTF_8));
+                msg.update((byte) 0);
+                try (InputStream stream =
+                    Files.newInputStream(file.getValue())) {
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len < 0) {
+                            break;
+                        }
+                        content.update(buf, 0, len);
+                    }
+                }
+                msg.update(content.digest());
+            }
+            return msg.digest();
+        } finally {
+            digests.give(this.algorithm, content);
+            digests.give(this.algorithm, msg);
+        }
+    }
+
+    /**
+     * Path relative to the directory, with slashes between names.
+     * @param path The path
+     * @return Its name
+     */
+    private String name(final Path path) {
+        final StringJoiner name = new StringJoiner("/");
+        for (final Path part : this.base.relativize(path)) {
+            name.add(part.toString());
+        }
+        return name.toString();
+    }
+}
@@ -24,11 +24,16 @@
 package org.cactoos.bytes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
-import org.cactoos.io.OutputTo;
-import org.cactoos.io.TeeInput;
+import org.cactoos.io.BuffersInput;
+import org.cactoos.io.SizedInput;
 
 /**
  * Input as Byte Array.
@@ -40,6 +45,11 @@ import org.cactoos.io.TeeInput;
  */
 public final class InputAsBytes implements Bytes {
 
+    /**
+     * Maximum size of an array.
+     */
+    private static final int MAX = Integer.MAX_VALUE - 8;
+
     /**
      * The input.
      */
@@ -70,20 +80,121 @@ public final class InputAsBytes implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            InputStream stream = new TeeInput(
-                this.source,
-                new OutputTo(baos)
-            ).stream()
-        ) {
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                if (stream.read(buf) < 0) {
-                    break;
-                }
+        List<ByteBuffer> buffers = Collections.emptyList();
+        if (this.source instanceof BuffersInput) {
+            buffers = ((BuffersInput) this.source).buffers();
+        }
+        final byte[] bytes;
+        if (buffers.isEmpty()) {
+            bytes = this.read();
+        } else {
+            bytes = InputAsBytes.copy(buffers);
+        }
+        return bytes;
+    }
+
+    /**
+     * Read the input through a stream.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    private byte[] read() throws Exception {
+        long hint = -1L;
+        if (this.source instanceof SizedInput) {
+            hint = ((SizedInput) this.source).size();
+        }
+        try (InputStream stream = this.source.stream()) {
+            final byte[] bytes;
+            if (hint >= 0L && hint <= InputAsBytes.MAX) {
+                bytes = this.read(stream, (int) hint);
+            } else {
+                bytes = this.read(stream, new ByteArrayOutputStream());
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Read the stream into an array of the expected size.
+     * @param stream The stream
+     * @param expected Expected number of bytes
+     * @return The bytes
+     * @throws IOException If fails
+     */
+    private byte[] read(final InputStream stream, final int expected)
+        throws IOException {
+        final byte[] bytes = new byte[expected];
+        int pos = 0;
+        while (pos < expected) {
+            final int len = stream.read(bytes, pos, expected - pos);
+            if (len < 0) {
+                break;
             }
-            return baos.toByteArray();
+            pos += len;
+        }
+        final byte[] result;
+        if (pos < expected) {
+            result = Arrays.copyOf(bytes, pos);
+        } else {
+            final int next = stream.read();
+            if (next < 0) {
+                result = bytes;
+            } else {
+                final ByteArrayOutputStream baos = new ByteArrayOutputStream(
+                    (int) Math.min(InputAsBytes.MAX, 2L * expected + 1L)
+                );
+                baos.write(bytes);
+                baos.write(next);
+                result = this.read(stream, baos);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the rest of the stream into the output.
+     * @param stream The stream
+     * @param baos The output
+     * @return The bytes
+     * @throws IOException If fails
+     */
+    private byte[] read(final InputStream stream,
+        final ByteArrayOutputStream baos) throws IOException {
+        final byte[] buf = new byte[this.size];
+        while (true) {
+            final int len = stream.read(buf);
+            if (len < 0) {
+                break;
+            }
+            baos.write(buf, 0, len);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Copy the buffers into one array.
+     * @param buffers The buffers
+     * @return The bytes
+     * @throws IOException If they don't fit into an array
+     */
+    private static byte[] copy(final List<ByteBuffer> buffers)
+        throws IOException {
+        long total = 0L;
+        for (final ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        if (total > InputAsBytes.MAX) {
+            throw new IOException(
+                String.format("Too many bytes for an array: %d", total)
+            );
+        }
+        final byte[] bytes = new byte[(int) total];
+        int pos = 0;
+        for (final ByteBuffer buffer : buffers) {
+            final int len = buffer.remaining();
+            buffer.get(bytes, pos, len);
+            pos += len;
         }
+        return bytes;
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import java.security.MessageDigest;
+import java.util.concurrent.Callable;
+
+/**
+ * Digest of one chunk of the input of {@link TreeDigestOf}.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class LeafDigest implements Callable<byte[]> {
+
+    /**
+     * The algorithm.
+     */
+    private final String algorithm;
+
+    /**
+     * The chunk.
+     */
+    private final byte[] chunk;
+
+    /**
+     * Number of bytes in the chunk.
+     */
+    private final int length;
+
+    /**
+     * Ctor.
+     * @param algorithm The algorithm
+     * @param chunk The chunk
+     * @param length Number of bytes in the chunk
+     */
+    LeafDigest(final String algorithm, final byte[] chunk, final int length) {
+        this.algorithm = algorithm;
+        this.chunk = chunk;
+        this.length = length;
+    }
+
+    @Override
+    public byte[] call() throws Exception {
+        final Digests digests = new Digests();
+        final MessageDigest msg = digests.take(this.algorithm);
+        try {
+            msg.update(this.chunk, 0, this.length);
+            return msg.digest();
+        } finally {
+            digests.give(this.algorithm, msg);
+        }
+    }
+}
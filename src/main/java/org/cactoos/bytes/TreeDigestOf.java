@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import org.cactoos.Bytes;
+import org.cactoos.Input;
+
+/**
+ * Tree digest of {@link Input}, calculated in parallel.
+ *
+ * <p>The input is cut into chunks of the same size, the last one may be
+ * shorter, and the digest of every chunk is calculated by a fork-join
+ * pool. The result is the digest of all digests of the chunks, in
+ * order; an empty input is one empty chunk. It is not equal to the
+ * plain digest of the input, such as {@link Sha256DigestOf}, and it
+ * changes with the size of the chunks, so the same size must be used
+ * to calculate and to check it. The input is read by one thread,
+ * at most two chunks per worker are kept in memory.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class TreeDigestOf implements Bytes {
+
+    /**
+     * The input.
+     */
+    private final Input source;
+
+    /**
+     * The algorithm.
+     */
+    private final String algorithm;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * Number of workers.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthm The algorithm
+     */
+    public TreeDigestOf(final Input input, final String algrthm) {
+        this(input, algrthm, 1 << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthm The algorithm
+     * @param chunk Size of a chunk
+     */
+    public TreeDigestOf(final Input input, final String algrthm,
+        final int chunk) {
+        this(input, algrthm, chunk, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthm The algorithm
+     * @param chunk Size of a chunk
+     * @param threads Number of workers
+     */
+    public TreeDigestOf(final Input input, final String algrthm,
+        final int chunk, final int threads) {
+        if (chunk < 1) {
+            throw new IllegalArgumentException(
+                String.format("The size of a chunk must be positive: %d", chunk)
+            );
+        }
+        this.source = input;
+        this.algorithm = algrthm;
+        this.chunk = chunk;
+        this.threads = threads;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public byte[] asBytes() throws Exception {
+        final Digests digests = new Digests();
+        final MessageDigest root = digests.take(this.algorithm);
+        final ForkJoinPool pool = new ForkJoinPool(Math.max(this.threads, 1));
+        final LinkedList<Future<byte[]>> leaves = new LinkedList<>();
+        try (InputStream stream = this.source.stream()) {
+            boolean more = true;
+            boolean first = true;
+            while (more) {
+                final byte[] buf = new byte[this.chunk];
+                int len = 0;
+                int read = 0;
+                while (read >= 0 && len < buf.length) {
+                    read = stream.read(buf, len, buf.length - len);
+                    if (read > 0) {
+                        len += read;
+                    }
+                }
+                more = len == buf.length;
+                if (len > 0 || first) {
+                    leaves.add(
+                        pool.submit(new LeafDigest(this.algorithm, buf, len))
+                    );
+                    first = false;
+                }
+                while (leaves.size() > this.threads << 1) {
+                    root.update(leaves.removeFirst().get());
+                }
+            }
+            for (final Future<byte[]> leaf : leaves) {
+                root.update(leaf.get());
+            }
+            return root.digest();
+        } finally {
+            pool.shutdownNow();
+            digests.give(this.algorithm, root);
+        }
+    }
+}
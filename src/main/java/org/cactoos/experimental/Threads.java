@@ -37,15 +37,85 @@ import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.CallableOf;
+import org.cactoos.scalar.ThreadPerTask;
 
 /**
  * Allows to execute the tasks concurrently, optionally within given timeout.
  *
+ * <p>Without an executor or a number of threads, every task runs in its
+ * own thread, virtual on JDK 21 and later, see {@link ThreadPerTask}.</p>
+ *
  * @param <T> The type of task result item.
  * @since 1.0.0
  */
 public final class Threads<T> extends IterableEnvelope<T> {
 
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently.
+     * @since 0.57
+     */
+    @SafeVarargs
+    public Threads(final Scalar<? extends T>... tasks) {
+        this(new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently.
+     * @since 0.57
+     */
+    public Threads(final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(
+            todo -> {
+                final ExecutorService executor = new ThreadPerTask().value();
+                try {
+                    return executor.invokeAll(new ListOf<>(todo));
+                } finally {
+                    executor.shutdown();
+                }
+            },
+            tasks
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param timeout The maximum time to wait.
+     * @param tasks The tasks to be executed concurrently.
+     * @since 0.57
+     */
+    @SafeVarargs
+    public Threads(final Duration timeout, final Scalar<? extends T>... tasks) {
+        this(timeout, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param timeout The maximum time to wait.
+     * @param tasks The tasks to be executed concurrently.
+     * @since 0.57
+     */
+    public Threads(
+        final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
+        this(
+            todo -> {
+                final ExecutorService executor = new ThreadPerTask().value();
+                try {
+                    return executor.invokeAll(
+                        new ListOf<>(todo),
+                        timeout.toNanos(), TimeUnit.NANOSECONDS
+                    );
+                } finally {
+                    executor.shutdown();
+                }
+            },
+            tasks
+        );
+    }
+
     /**
      * Ctor.
      * @param exc The executor.
@@ -23,12 +23,13 @@
  */
 package org.cactoos.func;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import org.cactoos.Func;
 import org.cactoos.Proc;
+import org.cactoos.scalar.ThreadPerTask;
 
 /**
  * Func that runs in the background.
@@ -40,6 +41,15 @@ import org.cactoos.Proc;
  *   input -&gt; input.length()
  * ).apply("Hello, world!").get();</pre>
  *
+ * <p>The result is a {@link CompletableFuture}, cancelling it with
+ * {@code cancel(true)} interrupts the running func. To compose it
+ * without blocking, use {@link AsyncStage}, which is a
+ * {@code Func<X, CompletableFuture<Y>>}.</p>
+ *
+ * <p>By default every call runs in its own thread, virtual on JDK 21
+ * and later, see {@link ThreadPerTask}. With a {@link ThreadFactory}
+ * the calls run one by one in a single thread.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -49,21 +59,16 @@ import org.cactoos.Proc;
 public final class Async<X, Y> implements Func<X, Future<Y>>, Proc<X> {
 
     /**
-     * The func.
-     */
-    private final Func<X, Y> func;
-
-    /**
-     * The executor service.
+     * The func, returning a completable future.
      */
-    private final ExecutorService executor;
+    private final AsyncStage<X, Y> stage;
 
     /**
      * Ctor.
      * @param fnc The func
      */
     public Async(final Func<X, Y> fnc) {
-        this(fnc, Executors.defaultThreadFactory());
+        this.stage = new AsyncStage<>(fnc);
     }
 
     /**
@@ -72,7 +77,7 @@ public final class Async<X, Y> implements Func<X, Future<Y>>, Proc<X> {
      * @param fct Factory
      */
     public Async(final Func<X, Y> fnc, final ThreadFactory fct) {
-        this(fnc, Executors.newSingleThreadExecutor(fct));
+        this.stage = new AsyncStage<>(fnc, fct);
     }
 
     /**
@@ -81,15 +86,12 @@ public final class Async<X, Y> implements Func<X, Future<Y>>, Proc<X> {
      * @param exec Executor Service
      */
     public Async(final Func<X, Y> fnc, final ExecutorService exec) {
-        this.func = fnc;
-        this.executor = exec;
+        this.stage = new AsyncStage<>(fnc, exec);
     }
 
     @Override
-    public Future<Y> apply(final X input) {
-        return this.executor.submit(
-            () -> this.func.apply(input)
-        );
+    public CompletableFuture<Y> apply(final X input) {
+        return this.stage.apply(input);
     }
 
     @Override
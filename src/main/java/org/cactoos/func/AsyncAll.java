@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func, applied to all items at once, without blocking.
+ *
+ * <p>The func is started for every item of the iterable, the result
+ * is completed when all of them are, with the results in the order of
+ * the items. If one of them fails, the result fails too.</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<List<String>> pages = new AsyncAll<>(
+ *     new AsyncStage<>(url -> new TextOf(new InputOf(url)).asString())
+ * ).apply(urls);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of items
+ * @param <Y> Type of results
+ * @since 0.57
+ */
+public final class AsyncAll<X, Y>
+    implements Func<Iterable<? extends X>, CompletableFuture<List<Y>>> {
+
+    /**
+     * The asynchronous func.
+     */
+    private final Func<? super X, ? extends CompletionStage<Y>> func;
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     */
+    public AsyncAll(final Func<? super X, ? extends CompletionStage<Y>> async) {
+        this.func = async;
+    }
+
+    @Override
+    public CompletableFuture<List<Y>> apply(final Iterable<? extends X> items)
+        throws Exception {
+        final List<CompletableFuture<Y>> futures = new ArrayList<>(0);
+        for (final X item : items) {
+            futures.add(this.func.apply(item).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(
+            futures.toArray(new CompletableFuture<?>[0])
+        ).thenApply(
+            done -> {
+                final List<Y> results = new ArrayList<>(futures.size());
+                for (final CompletableFuture<Y> future : futures) {
+                    results.add(future.join());
+                }
+                return results;
+            }
+        );
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.cactoos.Func;
+
+/**
+ * Two asynchronous funcs, one after another, without blocking.
+ *
+ * <p>The second func starts when the result of the first one
+ * is ready:</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<User> user = new AsyncChained<>(
+ *     new AsyncStage<>(id -> new Session(id)),
+ *     new AsyncStage<>(session -> session.user())
+ * ).apply(id);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of intermediate result
+ * @param <Z> Type of output
+ * @since 0.57
+ */
+public final class AsyncChained<X, Y, Z>
+    implements Func<X, CompletableFuture<Z>> {
+
+    /**
+     * The first func.
+     */
+    private final Func<? super X, ? extends CompletionStage<Y>> before;
+
+    /**
+     * The second func.
+     */
+    private final Func<? super Y, ? extends CompletionStage<Z>> after;
+
+    /**
+     * Ctor.
+     * @param bfr The first func
+     * @param atr The second func
+     */
+    public AsyncChained(
+        final Func<? super X, ? extends CompletionStage<Y>> bfr,
+        final Func<? super Y, ? extends CompletionStage<Z>> atr
+    ) {
+        this.before = bfr;
+        this.after = atr;
+    }
+
+    @Override
+    public CompletableFuture<Z> apply(final X input) throws Exception {
+        return this.before.apply(input).thenCompose(
+            new CompletionStep<Y, CompletionStage<Z>>(this.after)
+        ).toCompletableFuture();
+    }
+}
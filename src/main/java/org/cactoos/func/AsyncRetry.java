@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.True;
+
+/**
+ * Asynchronous func that will try a few times before failing,
+ * without blocking.
+ *
+ * <p>Unlike {@link Retry}, it doesn't sleep between attempts. The next
+ * attempt is scheduled on a scheduler, which is shared by default, so
+ * waiting retries don't hold any threads:</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<String> page = new AsyncRetry<>(
+ *     new AsyncStage<>(url -> new TextOf(new InputOf(url)).asString()),
+ *     5,
+ *     new ExponentialBackoff(Duration.ofMillis(100L), Duration.ofSeconds(5L))
+ * ).apply(url);
+ * }</pre>
+ *
+ * <p>Cancelling the result stops the retries.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 0.57
+ */
+public final class AsyncRetry<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The asynchronous func.
+     */
+    private final Func<? super X, ? extends CompletionStage<Y>> func;
+
+    /**
+     * Exit condition.
+     */
+    private final Func<Integer, Boolean> exit;
+
+    /**
+     * Delay before the retry, by its number and the previous delay.
+     */
+    private final BiFunc<Integer, Duration, Duration> backoff;
+
+    /**
+     * Permission to retry.
+     */
+    private final Scalar<Boolean> budget;
+
+    /**
+     * The scheduler of retries.
+     */
+    private final Scalar<? extends ScheduledExecutorService> scheduler;
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     * @param attempts Maximum number of attempts
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     */
+    public AsyncRetry(final Func<? super X, ? extends CompletionStage<Y>> async,
+        final int attempts,
+        final BiFunc<Integer, Duration, Duration> backoff) {
+        this(async, attempts, backoff, new True());
+    }
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     * @param attempts Maximum number of attempts
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @param budget Permission to retry
+     */
+    public AsyncRetry(final Func<? super X, ? extends CompletionStage<Y>> async,
+        final int attempts,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget) {
+        this(
+            async, attempt -> attempt >= attempts, backoff, budget,
+            new SharedScheduler()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     * @param exit Exit condition, returns TRUE if there is no more reason
+     *  to try
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @param budget Permission to retry
+     * @param svc The scheduler of retries
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AsyncRetry(final Func<? super X, ? extends CompletionStage<Y>> async,
+        final Func<Integer, Boolean> exit,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget,
+        final ScheduledExecutorService svc) {
+        this(async, exit, backoff, budget, () -> svc);
+    }
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     * @param exit Exit condition
+     * @param backoff Delay before the retry
+     * @param budget Permission to retry
+     * @param svc The scheduler of retries
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private AsyncRetry(
+        final Func<? super X, ? extends CompletionStage<Y>> async,
+        final Func<Integer, Boolean> exit,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget,
+        final Scalar<? extends ScheduledExecutorService> svc) {
+        this.func = async;
+        this.exit = exit;
+        this.backoff = backoff;
+        this.budget = budget;
+        this.scheduler = svc;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        if (this.exit.apply(0)) {
+            result.completeExceptionally(
+                new IllegalArgumentException(
+                    "An immediate exit, didn't have a chance to try"
+                )
+            );
+        } else {
+            this.attempt(input, 0, Duration.ZERO, result);
+        }
+        return result;
+    }
+
+    /**
+     * Make an attempt and schedule the next one, if it fails.
+     * @param input The input
+     * @param attempt Number of the attempt
+     * @param delay The delay before this attempt
+     * @param result The result
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void attempt(final X input, final int attempt,
+        final Duration delay, final CompletableFuture<Y> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletionStage<Y> stage;
+        try {
+            stage = this.func.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            final CompletableFuture<Y> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            stage = failed;
+        }
+        stage.whenComplete(
+            (value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    try {
+                        this.retry(input, attempt + 1, delay, result, error);
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception ex) {
+                        result.completeExceptionally(ex);
+                    }
+                }
+            }
+        );
+    }
+
+    /**
+     * Schedule the next attempt or fail, if no more attempts are allowed.
+     * @param input The input
+     * @param next Number of the next attempt
+     * @param delay The delay before the failed attempt
+     * @param result The result
+     * @param error The failure of the last attempt
+     * @throws Exception If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void retry(final X input, final int next, final Duration delay,
+        final CompletableFuture<Y> result, final Throwable error)
+        throws Exception {
+        if (this.exit.apply(next) || !this.budget.value()) {
+            result.completeExceptionally(CompletionStep.cause(error));
+        } else {
+            final Duration pause = this.backoff.apply(next, delay);
+            this.scheduler.value().schedule(
+                () -> this.attempt(input, next, pause, result),
+                Math.max(0L, pause.toMillis()),
+                TimeUnit.MILLISECONDS
+            );
+        }
+    }
+}
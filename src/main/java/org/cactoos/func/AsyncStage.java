@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import org.cactoos.Func;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Func that runs in the background and returns a
+ * {@link CompletableFuture}.
+ *
+ * <p>It is the same as {@link Async}, but it is a
+ * {@code Func<X, CompletableFuture<Y>>}, so it may be composed without
+ * blocking, see {@link AsyncChained}, {@link AsyncMapped},
+ * {@link AsyncAll}, {@link AsyncWithFallback}, {@link AsyncRetry} and
+ * {@link AsyncTimed}:</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<Integer> length = new AsyncMapped<>(
+ *     new AsyncStage<>(url -> new TextOf(new InputOf(url)).asString()),
+ *     String::length
+ * ).apply(url);
+ * }</pre>
+ *
+ * <p>Cancelling the result with {@code cancel(true)} interrupts the
+ * running func.</p>
+ *
+ * <p>By default every call runs in its own thread, virtual on JDK 21
+ * and later, see {@link ThreadPerTask}. With a {@link ThreadFactory}
+ * the calls run one by one in a single thread.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 0.57
+ */
+public final class AsyncStage<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The executor service.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     */
+    public AsyncStage(final Func<X, Y> fnc) {
+        this(fnc, new Unchecked<>(new ThreadPerTask()).value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param fct Factory
+     */
+    public AsyncStage(final Func<X, Y> fnc, final ThreadFactory fct) {
+        this(fnc, Executors.newSingleThreadExecutor(fct));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param exec Executor Service
+     */
+    public AsyncStage(final Func<X, Y> fnc, final ExecutorService exec) {
+        this.func = fnc;
+        this.executor = exec;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        final Future<?> task = this.executor.submit(
+            () -> {
+                try {
+                    result.complete(this.func.apply(input));
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Throwable ex) {
+                    result.completeExceptionally(ex);
+                }
+            }
+        );
+        result.whenComplete(
+            (value, error) -> {
+                if (result.isCancelled()) {
+                    task.cancel(true);
+                }
+            }
+        );
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Asynchronous func, which fails with {@link TimeoutException} after
+ * a certain time has passed, without blocking.
+ *
+ * <p>Timeouts of all instances are tracked by one shared daemon
+ * scheduler thread, unless another scheduler is given. When the time
+ * is over, the future of the origin is cancelled, which interrupts
+ * the func if it runs in {@link AsyncStage}:</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<String> page = new AsyncTimed<>(
+ *     url -> new TextOf(new InputOf(url)).asString(),
+ *     1000L
+ * ).apply(url);
+ * }</pre>
+ *
+ * <p>The number of calls timed out so far is available through
+ * {@link #timeouts()}.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see Timed
+ * @since 0.57
+ */
+public final class AsyncTimed<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The asynchronous func.
+     */
+    private final Func<? super X, ? extends CompletionStage<Y>> func;
+
+    /**
+     * Milliseconds.
+     */
+    private final long time;
+
+    /**
+     * The scheduler of timeouts.
+     */
+    private final Scalar<? extends ScheduledExecutorService> scheduler;
+
+    /**
+     * Calls timed out.
+     */
+    private final LongAdder expired;
+
+    /**
+     * Ctor.
+     * @param function Origin function
+     * @param milliseconds Milliseconds
+     */
+    public AsyncTimed(final Func<X, Y> function, final long milliseconds) {
+        this(milliseconds, new AsyncStage<>(function));
+    }
+
+    /**
+     * Ctor.
+     * @param milliseconds Milliseconds
+     * @param async Async function
+     */
+    public AsyncTimed(final long milliseconds,
+        final Func<? super X, ? extends CompletionStage<Y>> async) {
+        this(milliseconds, async, new SharedScheduler());
+    }
+
+    /**
+     * Ctor.
+     * @param milliseconds Milliseconds
+     * @param async Async function
+     * @param svc The scheduler of timeouts
+     */
+    public AsyncTimed(final long milliseconds,
+        final Func<? super X, ? extends CompletionStage<Y>> async,
+        final ScheduledExecutorService svc) {
+        this(milliseconds, async, () -> svc);
+    }
+
+    /**
+     * Ctor.
+     * @param milliseconds Milliseconds
+     * @param async Async function
+     * @param svc The scheduler of timeouts
+     */
+    private AsyncTimed(final long milliseconds,
+        final Func<? super X, ? extends CompletionStage<Y>> async,
+        final Scalar<? extends ScheduledExecutorService> svc) {
+        this.func = async;
+        this.time = milliseconds;
+        this.scheduler = svc;
+        this.expired = new LongAdder();
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        final CompletableFuture<Y> origin =
+            this.func.apply(input).toCompletableFuture();
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timer = this.scheduler.value().schedule(
+            () -> {
+                final boolean late = result.completeExceptionally(
+                    new TimeoutException(
+                        new UncheckedText(
+                            new FormattedText(
+                                "Timed out after %d milliseconds",
+                                this.time
+                            )
+                        ).asString()
+                    )
+                );
+                if (late) {
+                    this.expired.increment();
+                    origin.cancel(true);
+                }
+            },
+            this.time,
+            TimeUnit.MILLISECONDS
+        );
+        origin.whenComplete(
+            (value, error) -> {
+                timer.cancel(false);
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(
+                        CompletionStep.cause(error)
+                    );
+                }
+            }
+        );
+        result.whenComplete(
+            (value, error) -> {
+                if (result.isCancelled()) {
+                    origin.cancel(true);
+                }
+            }
+        );
+        return result;
+    }
+
+    /**
+     * How many calls timed out so far.
+     * @return Number of calls
+     */
+    public long timeouts() {
+        return this.expired.sum();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.ScalarWithFallback;
+
+/**
+ * Asynchronous func with fallbacks, without blocking.
+ *
+ * <p>The fallbacks are chosen the same way as in
+ * {@link FuncWithFallback}, when the future fails. They run in the
+ * thread, which completes the future:</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<Product> product = new AsyncWithFallback<>(
+ *     new AsyncStage<>(id -> new SqlProduct().apply(id)),
+ *     new Fallback.From<>(
+ *         SQLException.class,
+ *         exp -> new CachedProduct().apply(id)
+ *     )
+ * ).apply(id);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 0.57
+ */
+public final class AsyncWithFallback<X, Y>
+    implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The asynchronous func.
+     */
+    private final Func<? super X, ? extends CompletionStage<Y>> func;
+
+    /**
+     * The fallbacks.
+     */
+    private final Iterable<? extends Fallback<? extends Y>> fallbacks;
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     * @param fbks The fallbacks
+     */
+    @SafeVarargs
+    public AsyncWithFallback(
+        final Func<? super X, ? extends CompletionStage<Y>> async,
+        final Fallback<? extends Y>... fbks
+    ) {
+        this(async, new IterableOf<>(fbks));
+    }
+
+    /**
+     * Ctor.
+     * @param async The asynchronous func
+     * @param fbks The fallbacks
+     */
+    public AsyncWithFallback(
+        final Func<? super X, ? extends CompletionStage<Y>> async,
+        final Iterable<? extends Fallback<? extends Y>> fbks
+    ) {
+        this.func = async;
+        this.fallbacks = fbks;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        return this.func.apply(input).toCompletableFuture().handle(
+            (value, error) -> {
+                final Y result;
+                if (error == null) {
+                    result = value;
+                } else {
+                    result = new CompletionStep<Throwable, Y>(
+                        exp -> new ScalarWithFallback<Y>(
+                            () -> AsyncWithFallback.rethrow(exp),
+                            this.fallbacks
+                        ).value()
+                    ).apply(CompletionStep.cause(error));
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Throw the error back.
+     * @param error The error
+     * @param <T> Type of the result
+     * @return Never returns
+     * @throws Exception Always
+     */
+    private static <T> T rethrow(final Throwable error) throws Exception {
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        throw (Exception) error;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Bounded in-memory cache, which is used by {@link StickyFunc}
+ * and {@link StickyBiFunc}.
+ *
+ * <p>Entries are evicted in least recently used order, when the
+ * maximum size is reached, or when they expire. An entry expires when
+ * its time-to-live (since it was requested first time) or its
+ * time-to-idle (since it was requested last time) is over.</p>
+ *
+ * <p>The cache is split into stripes, each of them has its own lock and
+ * holds an equal share of the maximum size, so that the least recently
+ * used order is maintained per stripe. Values are calculated outside of
+ * the locks: the first request of a key puts a pending entry into the
+ * cache and calculates the value, while concurrent requests of the same
+ * key wait for that calculation instead of starting their own. If the
+ * calculation fails, all of them get the exception and the entry is
+ * removed.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 0.57
+ */
+public final class Cache<K, V> {
+
+    /**
+     * Stripes.
+     */
+    private final List<Map<K, CacheEntry<V>>> stripes;
+
+    /**
+     * Maximum size of each stripe.
+     */
+    private final int limit;
+
+    /**
+     * Time-to-live of entries, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Time-to-idle of entries, in nanoseconds.
+     */
+    private final long tti;
+
+    /**
+     * Clock, in nanoseconds.
+     */
+    private final Scalar<Long> clock;
+
+    /**
+     * Number of hits.
+     */
+    private final LongAdder hit;
+
+    /**
+     * Number of misses.
+     */
+    private final LongAdder miss;
+
+    /**
+     * Number of evicted entries.
+     */
+    private final LongAdder evicted;
+
+    /**
+     * Ctor.
+     */
+    public Cache() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum cache size
+     */
+    public Cache(final int max) {
+        this(max, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum cache size
+     * @param stripes Number of independently locked stripes
+     */
+    public Cache(final int max, final int stripes) {
+        this(max, stripes, Long.MAX_VALUE, Long.MAX_VALUE, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum cache size
+     * @param ttl Time-to-live of an entry since it was requested first
+     * @param tti Time-to-idle of an entry since it was requested
+     */
+    public Cache(final int max, final Duration ttl, final Duration tti) {
+        this(max, 1, ttl, tti);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum cache size
+     * @param stripes Number of independently locked stripes
+     * @param ttl Time-to-live of an entry since it was requested first
+     * @param tti Time-to-idle of an entry since it was requested
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Cache(final int max, final int stripes, final Duration ttl,
+        final Duration tti) {
+        this(max, stripes, ttl.toNanos(), tti.toNanos(), System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum cache size
+     * @param stripes Number of independently locked stripes
+     * @param ttl Time-to-live of an entry, in nanoseconds
+     * @param tti Time-to-idle of an entry, in nanoseconds
+     * @param clock Clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Cache(final int max, final int stripes, final long ttl, final long tti,
+        final Scalar<Long> clock) {
+        final int count = Math.max(1, Math.min(stripes, max));
+        this.stripes = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx) {
+            this.stripes.add(new LinkedHashMap<>(16, 0.75f, true));
+        }
+        this.limit = Math.max(0, max / count + Math.min(1, max % count));
+        this.ttl = ttl;
+        this.tti = tti;
+        this.clock = clock;
+        this.hit = new LongAdder();
+        this.miss = new LongAdder();
+        this.evicted = new LongAdder();
+    }
+
+    /**
+     * Get the value cached for the key, or calculate and cache it.
+     * @param key The key
+     * @param func Function to calculate the value, if it is not cached
+     * @return The value
+     * @throws Exception If the function fails
+     */
+    public V value(final K key, final Func<? super K, ? extends V> func)
+        throws Exception {
+        final Map<K, CacheEntry<V>> stripe = this.stripe(key);
+        CacheEntry<V> entry;
+        final boolean owner;
+        synchronized (stripe) {
+            final long now = this.now();
+            entry = stripe.get(key);
+            if (entry != null && !entry.alive(now, this.ttl, this.tti)) {
+                stripe.remove(key);
+                this.evicted.increment();
+                entry = null;
+            }
+            owner = entry == null;
+            if (owner) {
+                entry = new CacheEntry<>(() -> func.apply(key), now);
+                this.miss.increment();
+                if (this.limit > 0) {
+                    stripe.put(key, entry);
+                    this.shrink(stripe, now);
+                }
+            } else {
+                entry.touch(now);
+                this.hit.increment();
+            }
+        }
+        if (owner) {
+            entry.run();
+        }
+        try {
+            return entry.value();
+        } finally {
+            if (entry.failed()) {
+                synchronized (stripe) {
+                    stripe.remove(key, entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of requests that found the value in the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hit.sum();
+    }
+
+    /**
+     * Number of requests that had to calculate the value.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.miss.sum();
+    }
+
+    /**
+     * Number of entries removed because of size limit or expiration.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        return this.evicted.sum();
+    }
+
+    /**
+     * Remove expired and least recently used entries from the stripe,
+     * until it fits its limit.
+     * @param stripe The stripe, locked by the caller
+     * @param now Current time, in nanoseconds
+     */
+    private void shrink(final Map<K, CacheEntry<V>> stripe, final long now) {
+        final Iterator<CacheEntry<V>> eldest = stripe.values().iterator();
+        while (eldest.hasNext()) {
+            final CacheEntry<V> entry = eldest.next();
+            if (stripe.size() <= this.limit
+                && entry.alive(now, this.ttl, this.tti)) {
+                break;
+            }
+            eldest.remove();
+            this.evicted.increment();
+        }
+    }
+
+    /**
+     * Stripe for the key.
+     * @param key The key
+     * @return The stripe
+     */
+    private Map<K, CacheEntry<V>> stripe(final K key) {
+        final Map<K, CacheEntry<V>> stripe;
+        if (this.stripes.size() == 1) {
+            stripe = this.stripes.get(0);
+        } else {
+            int hash = 0;
+            if (key != null) {
+                hash = key.hashCode();
+            }
+            hash ^= hash >>> 16;
+            stripe = this.stripes.get(
+                (hash & Integer.MAX_VALUE) % this.stripes.size()
+            );
+        }
+        return stripe;
+    }
+
+    /**
+     * Current time, if entries may expire.
+     * @return Time, in nanoseconds
+     * @throws Exception If the clock fails
+     */
+    private long now() throws Exception {
+        long now = 0L;
+        if (this.ttl != Long.MAX_VALUE || this.tti != Long.MAX_VALUE) {
+            now = this.clock.value();
+        }
+        return now;
+    }
+}
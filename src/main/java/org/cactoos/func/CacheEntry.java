@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Value stored in {@link Cache}, which may still be calculated.
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>The value is thread-safe, the times must be accessed under
+ * the lock of the stripe holding the entry.</p>
+ *
+ * @param <V> Type of value
+ * @since 0.57
+ */
+final class CacheEntry<V> {
+
+    /**
+     * The value.
+     */
+    private final FutureTask<V> val;
+
+    /**
+     * When the value was requested first time, in nanoseconds.
+     */
+    private final long created;
+
+    /**
+     * When the value was requested last time, in nanoseconds.
+     */
+    private long accessed;
+
+    /**
+     * Ctor.
+     * @param value Calculation of the value
+     * @param now Current time, in nanoseconds
+     */
+    CacheEntry(final Callable<V> value, final long now) {
+        this.val = new FutureTask<>(value);
+        this.created = now;
+        this.accessed = now;
+    }
+
+    /**
+     * Calculate the value in the current thread.
+     */
+    void run() {
+        this.val.run();
+    }
+
+    /**
+     * The value, waiting for its calculation if necessary.
+     * @return The value
+     * @throws Exception If the calculation failed
+     */
+    V value() throws Exception {
+        try {
+            return this.val.get();
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Did the calculation fail?
+     *
+     * <p>A value not calculated yet did not fail, even if a thread
+     * waiting for it was interrupted.</p>
+     * @return TRUE if the calculation is over and threw
+     */
+    boolean failed() {
+        boolean failed = false;
+        if (this.val.isDone()) {
+            try {
+                this.val.get();
+            } catch (final ExecutionException | CancellationException ex) {
+                failed = true;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Is it still not expired?
+     * @param now Current time, in nanoseconds
+     * @param ttl Time-to-live, in nanoseconds
+     * @param tti Time-to-idle, in nanoseconds
+     * @return TRUE if not expired
+     */
+    boolean alive(final long now, final long ttl, final long tti) {
+        return now - this.created < ttl && now - this.accessed < tti;
+    }
+
+    /**
+     * Mark it as requested.
+     * @param now Current time, in nanoseconds
+     */
+    void touch(final long now) {
+        this.accessed = now;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.cactoos.Func;
+
+/**
+ * Func as a step of {@link java.util.concurrent.CompletableFuture}.
+ *
+ * <p>Checked exceptions are wrapped into {@link CompletionException},
+ * which the future unwraps, so the failure of the future is caused
+ * by the original exception.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 0.57
+ */
+final class CompletionStep<X, Y> implements Function<X, Y> {
+
+    /**
+     * The func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     */
+    CompletionStep(final Func<? super X, ? extends Y> fnc) {
+        this.func = fnc;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) {
+        try {
+            return this.func.apply(input);
+        } catch (final RuntimeException ex) {
+            throw ex;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * The original cause of the failed future.
+     * @param error The error, as given by the future
+     * @return The original cause
+     */
+    static Throwable cause(final Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.cactoos.BiFunc;
+
+/**
+ * Backoff between retries with decorrelated jitter.
+ *
+ * <p>The delay is a random one between {@code base} and three times
+ * the previous delay, but not longer than {@code cap}. It grows about
+ * as fast as {@link ExponentialBackoff}, while the delays of different
+ * callers drift apart from each other.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @see Retry
+ * @since 0.57
+ */
+public final class DecorrelatedJitter
+    implements BiFunc<Integer, Duration, Duration> {
+
+    /**
+     * Minimum delay, in nanoseconds.
+     */
+    private final long base;
+
+    /**
+     * Maximum delay, in nanoseconds, below {@link Long#MAX_VALUE}, so
+     * that the random delay may reach it.
+     */
+    private final long cap;
+
+    /**
+     * Ctor.
+     * @param base Minimum delay
+     * @param cap Maximum delay
+     */
+    public DecorrelatedJitter(final Duration base, final Duration cap) {
+        this.base = Math.min(
+            Math.max(0L, base.toNanos()), Long.MAX_VALUE - 1L
+        );
+        this.cap = Math.min(
+            Math.max(this.base, cap.toNanos()), Long.MAX_VALUE - 1L
+        );
+    }
+
+    @Override
+    public Duration apply(final Integer attempt, final Duration previous) {
+        final long last = Math.max(this.base, previous.toNanos());
+        final long upper;
+        if (last > this.cap / 3L) {
+            upper = this.cap;
+        } else {
+            upper = last * 3L;
+        }
+        return Duration.ofNanos(
+            ThreadLocalRandom.current().nextLong(this.base, upper + 1L)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.cactoos.BiFunc;
+
+/**
+ * Exponential backoff between retries.
+ *
+ * <p>The delay before the retry number {@code n} is
+ * {@code base * 2^(n - 1)}, but not longer than {@code cap}. With
+ * the jitter, which is on by default, the delay is a random one
+ * between zero and that value, so that many callers, failed at the
+ * same time, don't retry at the same time:</p>
+ *
+ * <pre>{@code
+ * new Retry<>(
+ *     func,
+ *     5,
+ *     new ExponentialBackoff(Duration.ofMillis(100L), Duration.ofSeconds(10L))
+ * )
+ * }</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @see Retry
+ * @see DecorrelatedJitter
+ * @since 0.57
+ */
+public final class ExponentialBackoff
+    implements BiFunc<Integer, Duration, Duration> {
+
+    /**
+     * Delay before the first retry, in nanoseconds.
+     */
+    private final long base;
+
+    /**
+     * Maximum delay, in nanoseconds, below {@link Long#MAX_VALUE}, so
+     * that the random delay may reach it.
+     */
+    private final long cap;
+
+    /**
+     * Randomize the delay.
+     */
+    private final boolean jitter;
+
+    /**
+     * Ctor.
+     * @param base Delay before the first retry
+     * @param cap Maximum delay
+     */
+    public ExponentialBackoff(final Duration base, final Duration cap) {
+        this(base, cap, true);
+    }
+
+    /**
+     * Ctor.
+     * @param base Delay before the first retry
+     * @param cap Maximum delay
+     * @param jitter Randomize the delay
+     */
+    public ExponentialBackoff(final Duration base, final Duration cap,
+        final boolean jitter) {
+        this.base = Math.max(0L, base.toNanos());
+        this.cap = Math.min(
+            Math.max(0L, cap.toNanos()), Long.MAX_VALUE - 1L
+        );
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Duration apply(final Integer attempt, final Duration previous) {
+        final int shift = Math.max(0, attempt - 1);
+        final long ceiling;
+        if (this.base == 0L
+            || shift < Long.numberOfLeadingZeros(this.base) - 1) {
+            ceiling = Math.min(this.cap, this.base << shift);
+        } else {
+            ceiling = this.cap;
+        }
+        final long delay;
+        if (this.jitter) {
+            delay = ThreadLocalRandom.current().nextLong(ceiling + 1L);
+        } else {
+            delay = ceiling;
+        }
+        return Duration.ofNanos(delay);
+    }
+}
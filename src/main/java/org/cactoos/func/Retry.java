@@ -24,11 +24,21 @@
 package org.cactoos.func;
 
 import java.time.Duration;
+import org.cactoos.BiFunc;
 import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.True;
 
 /**
  * Func that will try a few times before throwing an exception.
  *
+ * <p>The delay between attempts is either fixed or calculated by
+ * a backoff, which gets the number of the retry and the previous
+ * delay, see {@link ExponentialBackoff} and {@link DecorrelatedJitter}.
+ * Every retry may also need a permission from a budget, shared by
+ * many callers, see {@link RetryBudget}. For retries, which don't
+ * block the calling thread, see {@link AsyncRetry}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -48,9 +58,14 @@ public final class Retry<X, Y> implements Func<X, Y> {
     private final Func<Integer, Boolean> exit;
 
     /**
-     * Wait between executions.
+     * Delay before the retry, by its number and the previous delay.
      */
-    private final Duration wait;
+    private final BiFunc<Integer, Duration, Duration> backoff;
+
+    /**
+     * Permission to retry.
+     */
+    private final Scalar<Boolean> budget;
 
     /**
      * Ctor.
@@ -100,19 +115,68 @@ public final class Retry<X, Y> implements Func<X, Y> {
      */
     public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
         final Duration wait) {
+        this(fnc, ext, (attempt, previous) -> wait, new True());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @since 0.57
+     */
+    public Retry(final Func<X, Y> fnc, final int attempts,
+        final BiFunc<Integer, Duration, Duration> backoff) {
+        this(fnc, attempts, backoff, new True());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @param budget Permission to retry
+     * @since 0.57
+     */
+    public Retry(final Func<X, Y> fnc, final int attempts,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget) {
+        this(fnc, attempt -> attempt >= attempts, backoff, budget);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @param budget Permission to retry
+     * @since 0.57
+     */
+    public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget) {
         this.func = fnc;
         this.exit = ext;
-        this.wait = wait;
+        this.backoff = backoff;
+        this.budget = budget;
     }
 
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public Y apply(final X input) throws Exception {
         int attempt = 0;
+        Duration delay = Duration.ZERO;
         Exception error = new IllegalArgumentException(
             "An immediate exit, didn't have a chance to try at least once"
         );
-        while (!this.exit.apply(attempt)) {
+        boolean more = !this.exit.apply(attempt);
+        while (more) {
             try {
                 return this.func.apply(input);
             } catch (final InterruptedException ex) {
@@ -123,15 +187,19 @@ public final class Retry<X, Y> implements Func<X, Y> {
             } catch (final Exception ex) {
                 error = ex;
             }
-            if (!this.wait.isZero() && !this.wait.isNegative()) {
-                try {
-                    Thread.sleep(this.wait.toMillis());
-                } catch (final InterruptedException ex) {
-                    error = ex;
-                    break;
+            ++attempt;
+            more = !this.exit.apply(attempt) && this.budget.value();
+            if (more) {
+                delay = this.backoff.apply(attempt, delay);
+                if (!delay.isZero() && !delay.isNegative()) {
+                    try {
+                        Thread.sleep(delay.toMillis());
+                    } catch (final InterruptedException ex) {
+                        error = ex;
+                        break;
+                    }
                 }
             }
-            ++attempt;
         }
         throw error;
     }
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Budget of retries, shared by many callers.
+ *
+ * <p>It's a token bucket: every retry takes one token, and the tokens
+ * are refilled at the given rate, up to the capacity. When the bucket
+ * is empty, {@link #value()} returns {@code false} and {@link Retry}
+ * gives up instead of retrying. Share one instance between all
+ * {@link Retry} objects, which call the same service, to make sure
+ * that their retries can't overload it:</p>
+ *
+ * <pre>{@code
+ * Scalar<Boolean> budget = new RetryBudget(10, 5.0d);
+ * new Retry<>(func, 3, backoff, budget).apply(input);
+ * }</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @see Retry
+ * @since 0.57
+ */
+public final class RetryBudget implements Scalar<Boolean> {
+
+    /**
+     * Maximum number of tokens.
+     */
+    private final double capacity;
+
+    /**
+     * Tokens per nanosecond.
+     */
+    private final double rate;
+
+    /**
+     * The clock, in nanoseconds.
+     */
+    private final Scalar<Long> clock;
+
+    /**
+     * The lock.
+     */
+    private final Object lock;
+
+    /**
+     * Tokens left.
+     */
+    private double tokens;
+
+    /**
+     * Time of the last refill, in nanoseconds.
+     */
+    private long refilled;
+
+    /**
+     * Ctor.
+     * @param capacity Maximum number of retries at once
+     * @param per Retries allowed per second
+     */
+    public RetryBudget(final int capacity, final double per) {
+        this(capacity, per, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Maximum number of retries at once
+     * @param per Retries allowed per second
+     * @param clock The clock, in nanoseconds
+     */
+    RetryBudget(final int capacity, final double per,
+        final Scalar<Long> clock) {
+        this.capacity = capacity;
+        this.rate = per / 1.0e9d;
+        this.clock = clock;
+        this.lock = new Object();
+        this.tokens = capacity;
+        this.refilled = new Unchecked<>(clock).value();
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        final long now = this.clock.value();
+        synchronized (this.lock) {
+            if (now > this.refilled) {
+                this.tokens = Math.min(
+                    this.capacity,
+                    this.tokens + (now - this.refilled) * this.rate
+                );
+                this.refilled = now;
+            }
+            final boolean allowed = this.tokens >= 1.0d;
+            if (allowed) {
+                this.tokens -= 1.0d;
+            }
+            return allowed;
+        }
+    }
+}
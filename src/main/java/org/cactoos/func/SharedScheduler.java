@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Scheduler shared by all asynchronous funcs of this package.
+ *
+ * <p>It's a single daemon thread, which is created when it's needed
+ * for the first time and never shut down. The tasks scheduled on it
+ * must be quick, like completing or starting a future. Cancelled
+ * tasks are removed from it right away.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.57
+ */
+final class SharedScheduler implements Scalar<ScheduledExecutorService> {
+
+    /**
+     * The scheduler.
+     */
+    private static final Unchecked<ScheduledExecutorService> SHARED =
+        new Unchecked<>(new Sticky<>(SharedScheduler::make));
+
+    @Override
+    public ScheduledExecutorService value() {
+        return SharedScheduler.SHARED.value();
+    }
+
+    /**
+     * Make the scheduler.
+     * @return The scheduler
+     */
+    private static ScheduledExecutorService make() {
+        final ScheduledThreadPoolExecutor svc =
+            new ScheduledThreadPoolExecutor(
+                1,
+                runnable -> {
+                    final Thread thread = new Thread(
+                        runnable, "cactoos-scheduler"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        svc.setRemoveOnCancelPolicy(true);
+        return svc;
+    }
+}
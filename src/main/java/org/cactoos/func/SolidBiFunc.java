@@ -28,6 +28,9 @@ import org.cactoos.BiFunc;
 /**
  * BiFunc that is thread-safe and sticky.
  *
+ * <p>Calls with different arguments don't wait for each other, see
+ * {@link SolidFunc}.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -52,6 +55,11 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        super(
+            new StickyBiFunc<>(
+                fnc,
+                new Cache<>(max, Runtime.getRuntime().availableProcessors())
+            )
+        );
     }
 }
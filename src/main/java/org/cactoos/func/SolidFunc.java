@@ -28,6 +28,12 @@ import org.cactoos.Func;
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>The cache is split into as many independently locked stripes as
+ * there are processors, so calls with different inputs don't wait for
+ * each other, and concurrent calls with the same input calculate the
+ * value only once, see {@link Cache}. Because of that, the least
+ * recently used order of a bounded cache is maintained per stripe.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -56,7 +62,10 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this.func = new StickyFunc<>(
+            fnc,
+            new Cache<>(max, Runtime.getRuntime().availableProcessors())
+        );
     }
 
     @Override
@@ -23,7 +23,6 @@
  */
 package org.cactoos.func;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
 import org.cactoos.map.MapEntry;
@@ -33,13 +32,11 @@ import org.cactoos.scalar.Sticky;
  * Func that accepts two arguments and caches previously calculated values
  * and doesn't recalculate again.
  *
- * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncBiFunc}.</p>
- *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache, see {@link Cache} for its eviction policy.</p>
  *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread safe. Concurrent calls with
+ * the same arguments calculate the value only once.</p>
  * @param <X> Type of input
  * @param <Y> Type of input
  * @param <Z> Type of output
@@ -56,12 +53,7 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
     /**
      * Cache.
      */
-    private final Map<Map.Entry<X, Y>, Z> cache;
-
-    /**
-     * Maximum cache size.
-     */
-    private final int size;
+    private final Cache<Map.Entry<X, Y>, Z> cache;
 
     /**
      * Ctor.
@@ -78,21 +70,27 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @since 0.26
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
+        this(fnc, new Cache<>(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param cache The cache
+     * @since 0.57
+     */
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc,
+        final Cache<Map.Entry<X, Y>, Z> cache) {
         this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
-        this.size = max;
+        this.cache = cache;
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
-        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        while (this.cache.size() > this.size) {
-            this.cache.remove(this.cache.keySet().iterator().next());
-        }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
-        }
-        return this.cache.get(key);
+        return this.cache.value(
+            new MapEntry<>(first, second),
+            key -> this.func.apply(first, second)
+        );
     }
 
 }
@@ -23,7 +23,6 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
 import org.cactoos.Func;
 import org.cactoos.scalar.Sticky;
 
@@ -32,12 +31,10 @@ import org.cactoos.scalar.Sticky;
  * recalculate again.
  *
  * <p>This {@link Func} decorator technically is an in-memory
- * cache.</p>
+ * cache, see {@link Cache} for its eviction policy.</p>
  *
- * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncFunc}.</p>
- *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread safe. Concurrent calls with
+ * the same input calculate the value only once.</p>
  *
  * @param <X> Type of input
  * @param <Y> Type of output
@@ -47,9 +44,14 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Cache<X, Y> cache;
 
     /**
      * Ctor.
@@ -66,15 +68,23 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, new Cache<>(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param cache The cache
+     * @since 0.57
+     */
+    public StickyFunc(final Func<X, Y> fnc, final Cache<X, Y> cache) {
+        this.func = fnc;
+        this.cache = cache;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        return this.cache.value(input, this.func);
     }
 
 }
@@ -31,6 +31,10 @@ import org.cactoos.Func;
 
 /**
  * Function that gets interrupted after a certain time has passed.
+ *
+ * <p>The calling thread waits for the result. To time out many
+ * concurrent calls without blocking, use {@link AsyncTimed}.</p>
+ *
  * @param <X> Type of input
  * @param <Y> Type of output
  * @since 0.29.3
@@ -40,7 +44,7 @@ public final class Timed<X, Y> implements Func<X, Y> {
     /**
      * Origin function.
      */
-    private final Func<X, Future<Y>> func;
+    private final Func<X, ? extends Future<Y>> func;
 
     /**
      * Milliseconds.
@@ -61,7 +65,8 @@ public final class Timed<X, Y> implements Func<X, Y> {
      * @param milliseconds Milliseconds
      * @param async Async function
      */
-    public Timed(final long milliseconds, final Func<X, Future<Y>> async) {
+    public Timed(final long milliseconds,
+        final Func<X, ? extends Future<Y>> async) {
         this.func = async;
         this.time = milliseconds;
     }
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Input, which may give its bytes as buffers, without a stream.
+ *
+ * <p>Readers like {@link org.cactoos.bytes.BytesOf} or
+ * {@link org.cactoos.scalar.LengthOf} use the buffers directly when they
+ * are available, see {@link MappedFile}. Decorators that don't change the
+ * bytes pass the buffers of their origin on.</p>
+ *
+ * <p>Unlike the size of a plain {@link SizedInput}, the size of this
+ * input, when it's known, is exact: {@link org.cactoos.scalar.LengthOf}
+ * returns it without mapping or reading anything.</p>
+ *
+ * @since 0.57
+ */
+public interface BuffersInput extends SizedInput {
+
+    /**
+     * Bytes of the input, as read-only buffers, in order.
+     * @return Buffers, or an empty list if they are not available and the
+     *  stream must be read
+     * @throws Exception If something goes wrong
+     */
+    List<ByteBuffer> buffers() throws Exception;
+
+}
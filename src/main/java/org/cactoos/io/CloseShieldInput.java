@@ -24,6 +24,9 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
 import org.cactoos.Input;
 
 /**
@@ -34,7 +37,7 @@ import org.cactoos.Input;
  *
  * @since 1.0.0
  */
-public final class CloseShieldInput implements Input {
+public final class CloseShieldInput implements BuffersInput {
 
     /**
      * Origin.
@@ -54,4 +57,22 @@ public final class CloseShieldInput implements Input {
         return new CloseShieldInputStream(this.origin.stream());
     }
 
+    @Override
+    public long size() throws Exception {
+        long size = -1L;
+        if (this.origin instanceof SizedInput) {
+            size = ((SizedInput) this.origin).size();
+        }
+        return size;
+    }
+
+    @Override
+    public List<ByteBuffer> buffers() throws Exception {
+        List<ByteBuffer> buffers = Collections.emptyList();
+        if (this.origin instanceof BuffersInput) {
+            buffers = ((BuffersInput) this.origin).buffers();
+        }
+        return buffers;
+    }
+
 }
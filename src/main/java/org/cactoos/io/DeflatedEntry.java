@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Content of a file deflated into memory, to be put into a zip archive.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class DeflatedEntry implements Callable<DeflatedEntry> {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Deflated bytes.
+     */
+    private final ByteArrayOutputStream data;
+
+    /**
+     * Checksum of the original bytes.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Number of the original bytes.
+     */
+    private long size;
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param level Compression level
+     */
+    DeflatedEntry(final Path path, final int level) {
+        this.path = path;
+        this.level = level;
+        this.data = new ByteArrayOutputStream();
+        this.crc = new CRC32();
+    }
+
+    @Override
+    public DeflatedEntry call() throws Exception {
+        final Deflater deflater = new Deflater(this.level, true);
+        final byte[] input = new byte[ZipStream.CHUNK];
+        final byte[] output = new byte[ZipStream.CHUNK];
+        try (InputStream file = new FileInputStream(this.path.toFile())) {
+            for (int len = file.read(input); len >= 0; len = file.read(input)) {
+                this.crc.update(input, 0, len);
+                this.size += len;
+                deflater.setInput(input, 0, len);
+                while (!deflater.needsInput()) {
+                    this.data.write(output, 0, deflater.deflate(output));
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                this.data.write(output, 0, deflater.deflate(output));
+            }
+            return this;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Deflated bytes.
+     * @return The bytes
+     */
+    byte[] bytes() {
+        return this.data.toByteArray();
+    }
+
+    /**
+     * Checksum of the original bytes.
+     * @return CRC-32
+     */
+    long checksum() {
+        return this.crc.getValue();
+    }
+
+    /**
+     * Number of the original bytes.
+     * @return Size
+     */
+    long length() {
+        return this.size;
+    }
+}
@@ -24,16 +24,25 @@
 package org.cactoos.io;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.cactoos.BiFunc;
 
 /**
  * Files and folders in a directory.
  *
+ * <p>The directory is walked lazily: paths are returned as soon as
+ * they are found, folders are listed only when reached, so the first
+ * paths come without waiting for the whole tree, and it can go straight
+ * into {@link Zip} without being collected. Paths are skipped, together
+ * with their subtrees, when the visiting function says so; attributes
+ * of every path are read once and given to that function. With more
+ * than one thread the folders are listed in parallel by a fork-join pool
+ * and, except for the directory itself going first, the order is not
+ * defined.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.21
@@ -45,6 +54,22 @@ public final class Directory implements Iterable<Path> {
      */
     private final Path dir;
 
+    /**
+     * Which paths to visit, the others are skipped with their subtrees.
+     */
+    private final BiFunc<? super Path, ? super BasicFileAttributes, Boolean>
+        visit;
+
+    /**
+     * Maximum depth, the directory itself is at zero.
+     */
+    private final int depth;
+
+    /**
+     * Number of threads listing the folders.
+     */
+    private final int threads;
+
     /**
      * Ctor.
      * @param file File as a path to directory.
@@ -58,16 +83,72 @@ public final class Directory implements Iterable<Path> {
      * @param path Path of the dir
      */
     public Directory(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param depth Maximum depth, the directory itself is at zero
+     * @since 0.57
+     */
+    public Directory(final Path path, final int depth) {
+        this(path, (file, attrs) -> true, depth);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param skip Paths to skip, together with their subtrees
+     * @since 0.57
+     */
+    public Directory(final Path path, final PathMatcher skip) {
+        this(path, (file, attrs) -> !skip.matches(file), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param visit Which paths to visit, the others are skipped with
+     *  their subtrees
+     * @param depth Maximum depth, the directory itself is at zero
+     * @since 0.57
+     */
+    public Directory(final Path path,
+        final BiFunc<? super Path, ? super BasicFileAttributes, Boolean> visit,
+        final int depth) {
+        this(path, visit, depth, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param visit Which paths to visit, the others are skipped with
+     *  their subtrees
+     * @param depth Maximum depth, the directory itself is at zero
+     * @param threads Number of threads listing the folders
+     * @since 0.57
+     */
+    public Directory(final Path path,
+        final BiFunc<? super Path, ? super BasicFileAttributes, Boolean> visit,
+        final int depth, final int threads) {
         this.dir = path;
+        this.visit = visit;
+        this.depth = depth;
+        this.threads = threads;
     }
 
     @Override
     public Iterator<Path> iterator() {
-        try (Stream<Path> files = Files.walk(this.dir)) {
-            return files.collect(Collectors.toList()).iterator();
-        } catch (final IOException ex) {
-            throw new IllegalStateException(ex);
+        final Iterator<Path> iter;
+        if (this.threads > 1) {
+            iter = new ForkedWalk(
+                this.dir, this.visit, this.depth, this.threads
+            );
+        } else {
+            iter = new Walk(this.dir, this.visit, this.depth);
         }
+        return iter;
     }
 
 }
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.BiFunc;
+
+/**
+ * Traversal of a directory by a fork-join pool, listing folders in
+ * parallel.
+ *
+ * <p>The directory itself goes first, the order of the other paths is not
+ * defined. At most {@link #BOUND} paths are kept in memory until they are
+ * returned, the pool waits when there are more. Errors are thrown when
+ * the paths listed before them are returned.</p>
+ *
+ * <p>The pool refers to the queue of the walk, not to the walk itself.
+ * A walk which is not read to the end stops listing folders once it is
+ * collected as garbage, then its pool is shut down. The threads of the
+ * pool are daemons, so they do not keep the JVM running anyway.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class ForkedWalk implements Iterator<Path> {
+
+    /**
+     * Maximum number of paths waiting to be returned.
+     */
+    static final int BOUND = 4096;
+
+    /**
+     * Paths listed, and an empty one after the last.
+     */
+    private final WalkQueue queue;
+
+    /**
+     * Error of the traversal.
+     */
+    private final AtomicReference<RuntimeException> error;
+
+    /**
+     * The next path to return.
+     */
+    private final LinkedList<Optional<Path>> ready;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param visit Which paths to visit
+     * @param depth Maximum depth
+     * @param threads Number of threads
+     */
+    ForkedWalk(final Path dir,
+        final BiFunc<? super Path, ? super BasicFileAttributes, Boolean> visit,
+        final int depth, final int threads) {
+        this.queue = new WalkQueue(this, ForkedWalk.BOUND);
+        this.error = new AtomicReference<>();
+        this.ready = new LinkedList<>();
+        this.ready.add(Optional.of(dir));
+        final boolean folder;
+        try {
+            folder = Walk.attributes(dir).isDirectory();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final WalkQueue paths = this.queue;
+        final AtomicReference<RuntimeException> failure = this.error;
+        if (folder && depth > 0) {
+            final ForkJoinPool pool = new ForkJoinPool(
+                threads, ForkedWalk::thread, null, false
+            );
+            pool.execute(
+                () -> {
+                    try {
+                        pool.invoke(
+                            new WalkTask(dir, 0, visit, depth, paths)
+                        );
+                    } catch (final RuntimeException ex) {
+                        failure.set(ex);
+                    } finally {
+                        ForkedWalk.end(paths);
+                        pool.shutdown();
+                    }
+                }
+            );
+        } else {
+            ForkedWalk.end(paths);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.ready.isEmpty()) {
+            try {
+                this.ready.add(this.queue.take());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+        if (!this.ready.getFirst().isPresent() && this.error.get() != null) {
+            throw this.error.get();
+        }
+        return this.ready.getFirst().isPresent();
+    }
+
+    @Override
+    public Path next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        return this.ready.removeFirst().get();
+    }
+
+    /**
+     * Put the empty path after the last one.
+     * @param paths The queue
+     */
+    private static void end(final WalkQueue paths) {
+        try {
+            paths.put(Optional.empty());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Make a daemon thread of the pool.
+     * @param pool The pool
+     * @return The thread
+     */
+    private static ForkJoinWorkerThread thread(final ForkJoinPool pool) {
+        final ForkJoinWorkerThread thread =
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName(String.format("cactoos-walk-%d", thread.getId()));
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.Callable;
+import java.util.zip.Deflater;
+
+/**
+ * Block of data deflated on its own, to be a part of a GZIP stream.
+ *
+ * <p>The block is primed with the end of the block before it, at most
+ * 32 KiB of it, so it compresses as well as in one deflate stream.
+ * Every block but the last ends with a sync flush, on a byte boundary,
+ * so deflated blocks can be written one after another.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class GzipBlock implements Callable<byte[]> {
+
+    /**
+     * Size of the deflate window.
+     */
+    private static final int WINDOW = 32 << 10;
+
+    /**
+     * The data.
+     */
+    private final byte[] data;
+
+    /**
+     * Number of bytes of the data.
+     */
+    private final int length;
+
+    /**
+     * Data of the block before, maybe empty.
+     */
+    private final byte[] before;
+
+    /**
+     * Number of bytes of the block before.
+     */
+    private final int previous;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Is it the last block.
+     */
+    private final boolean last;
+
+    /**
+     * Ctor.
+     * @param data The data
+     * @param length Number of bytes of the data
+     * @param before Data of the block before, maybe empty
+     * @param previous Number of bytes of the block before
+     * @param level Compression level
+     * @param last Is it the last block
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    GzipBlock(final byte[] data, final int length, final byte[] before,
+        final int previous, final int level, final boolean last) {
+        this.data = data;
+        this.length = length;
+        this.before = before;
+        this.previous = previous;
+        this.level = level;
+        this.last = last;
+    }
+
+    @Override
+    public byte[] call() {
+        final Deflater deflater = new Deflater(this.level, true);
+        try {
+            final int dict = Math.min(this.previous, GzipBlock.WINDOW);
+            if (dict > 0) {
+                deflater.setDictionary(
+                    this.before, this.previous - dict, dict
+                );
+            }
+            deflater.setInput(this.data, 0, this.length);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(
+                this.length / 2 + 64
+            );
+            final byte[] buf = new byte[GzipBlock.WINDOW];
+            if (this.last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.write(buf, 0, deflater.deflate(buf));
+                }
+            } else {
+                int len = buf.length;
+                while (len == buf.length) {
+                    len = deflater.deflate(
+                        buf, 0, buf.length, Deflater.SYNC_FLUSH
+                    );
+                    out.write(buf, 0, len);
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -31,6 +31,11 @@ import org.cactoos.Input;
 /**
  * Input that reads compressed data from the GZIP file format.
  *
+ * <p>All members of the file are read, one after another, also when
+ * the file comes from a pipe or a socket. Chunks of data can be
+ * decompressed ahead by a separate thread, while the chunks before
+ * them are being read.</p>
+ *
  * @since 0.29
  */
 public final class GzipInput implements Input {
@@ -45,6 +50,11 @@ public final class GzipInput implements Input {
      */
     private final int size;
 
+    /**
+     * Maximum number of chunks decompressed ahead.
+     */
+    private final int ahead;
+
     /**
      * Ctor.
      * @param input The input.
@@ -59,15 +69,35 @@ public final class GzipInput implements Input {
      * @param max Max length of the buffer
      */
     public GzipInput(final Input input, final int max) {
+        this(input, max, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Max length of the buffer, and of a chunk decompressed ahead
+     * @param ahead Maximum number of chunks decompressed ahead, by a separate
+     *  thread, or zero to decompress while reading
+     * @since 0.57
+     */
+    public GzipInput(final Input input, final int max, final int ahead) {
         this.origin = input;
         this.size = max;
+        this.ahead = ahead;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        return new GZIPInputStream(
-            this.origin.stream(),
+        final InputStream gzip = new GZIPInputStream(
+            new PeekedStream(this.origin.stream()),
             this.size
         );
+        final InputStream stream;
+        if (this.ahead > 0) {
+            stream = new ReadAheadStream(gzip, this.size, this.ahead);
+        } else {
+            stream = gzip;
+        }
+        return stream;
     }
 }
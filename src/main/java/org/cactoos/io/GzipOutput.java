@@ -24,13 +24,23 @@
 
 package org.cactoos.io;
 
+import java.io.BufferedOutputStream;
 import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 import org.cactoos.Output;
 
 /**
  * Output that writes compressed data in the GZIP file format.
  *
+ * <p>With more than one thread the data is cut into blocks, every block
+ * is deflated by its own thread, primed with the end of the block before,
+ * and the blocks are written one after another as one standard GZIP
+ * stream, as pigz does. At most two blocks per thread are kept in
+ * memory. The threads are daemons, so a stream which is not closed does
+ * not keep the JVM running.</p>
+ *
  * @since 0.29
  */
 public final class GzipOutput implements Output {
@@ -45,6 +55,16 @@ public final class GzipOutput implements Output {
      */
     private final int size;
 
+    /**
+     * Size of a block deflated by one thread.
+     */
+    private final int block;
+
+    /**
+     * Number of threads.
+     */
+    private final int threads;
+
     /**
      * Ctor.
      * @param output The output
@@ -59,15 +79,63 @@ public final class GzipOutput implements Output {
      * @param max Max length of the buffer
      */
     public GzipOutput(final Output output, final int max) {
+        this(output, max, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Max length of the buffer
+     * @param threads Number of threads deflating blocks of 128 KiB
+     * @since 0.57
+     */
+    public GzipOutput(final Output output, final int max, final int threads) {
+        this(output, max, 128 << 10, threads);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param max Max length of the buffer
+     * @param block Size of a block deflated by one thread
+     * @param threads Number of threads
+     * @since 0.57
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public GzipOutput(final Output output, final int max, final int block,
+        final int threads) {
         this.origin = output;
         this.size = max;
+        this.block = block;
+        this.threads = threads;
     }
 
     @Override
     public OutputStream stream() throws Exception {
-        return new GZIPOutputStream(
-            this.origin.stream(),
-            this.size
-        );
+        final OutputStream stream;
+        if (this.threads > 1) {
+            stream = new ParallelGzipStream(
+                new BufferedOutputStream(this.origin.stream(), this.size),
+                this.block,
+                Deflater.DEFAULT_COMPRESSION,
+                Executors.newFixedThreadPool(
+                    this.threads,
+                    runnable -> {
+                        final Thread thread = new Thread(
+                            runnable, "cactoos-gzip"
+                        );
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                ),
+                this.threads << 1
+            );
+        } else {
+            stream = new GZIPOutputStream(
+                this.origin.stream(),
+                this.size
+            );
+        }
+        return stream;
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of values in buckets by powers of two.
+ *
+ * <p>A value goes into the bucket of the number of its significant
+ * bits, zero goes into the first one; counting takes one atomic
+ * increment and no locks.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.57
+ */
+final class Histogram {
+
+    /**
+     * Number of buckets.
+     */
+    static final int BUCKETS = Long.SIZE + 1;
+
+    /**
+     * Counts, by bucket.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * Ctor.
+     */
+    Histogram() {
+        this.counts = new AtomicLongArray(Histogram.BUCKETS);
+    }
+
+    /**
+     * Count the value.
+     * @param value The value, not negative
+     */
+    void add(final long value) {
+        this.counts.incrementAndGet(
+            Long.SIZE - Long.numberOfLeadingZeros(value)
+        );
+    }
+
+    /**
+     * Counts of all buckets, at the moment.
+     * @return Counts, by bucket
+     */
+    long[] counts() {
+        final long[] copy = new long[Histogram.BUCKETS];
+        for (int idx = 0; idx < copy.length; ++idx) {
+            copy[idx] = this.counts.get(idx);
+        }
+        return copy;
+    }
+
+    /**
+     * The highest value of the bucket the quantile is in.
+     * @param counts Counts, by bucket
+     * @param quantile The quantile, from zero to one
+     * @return The highest value of the bucket, or zero if nothing counted
+     */
+    static long quantile(final long[] counts, final double quantile) {
+        long total = 0L;
+        for (final long count : counts) {
+            total += count;
+        }
+        final double rank = Math.max(quantile * total, 1.0d);
+        long seen = 0L;
+        int bucket = 0;
+        while (bucket < counts.length - 1) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                break;
+            }
+            ++bucket;
+        }
+        final long high;
+        if (total == 0L) {
+            high = 0L;
+        } else if (bucket == Long.SIZE) {
+            high = Long.MAX_VALUE;
+        } else {
+            high = (1L << bucket) - 1L;
+        }
+        return high;
+    }
+}
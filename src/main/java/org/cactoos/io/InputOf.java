@@ -43,17 +43,25 @@ import org.cactoos.scalar.Unchecked;
 /**
  * An {@link Input} that encapsulates other sources of data.
  *
+ * <p>The size of files and byte arrays is known in advance, see
+ * {@link SizedInput}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.11.8
  */
-public final class InputOf implements Input {
+public final class InputOf implements SizedInput {
 
     /**
      * Input.
      */
     private final Input origin;
 
+    /**
+     * Expected size of the input.
+     */
+    private final Scalar<Long> expected;
+
     /**
      * Ctor.
      *
@@ -63,7 +71,8 @@ public final class InputOf implements Input {
         this(
             () -> new FileInputStream(
                 new Unchecked<>(() -> file).value()
-            )
+            ),
+            file::length
         );
     }
 
@@ -73,7 +82,10 @@ public final class InputOf implements Input {
      * @param path The path
      */
     public InputOf(final Path path) {
-        this(() -> new FileInputStream(path.toFile()));
+        this(
+            () -> new FileInputStream(path.toFile()),
+            () -> path.toFile().length()
+        );
     }
 
     /**
@@ -273,7 +285,7 @@ public final class InputOf implements Input {
      * @param bytes The bytes
      */
     public InputOf(final byte[] bytes) {
-        this(new BytesOf(bytes));
+        this(() -> new ByteArrayInputStream(bytes), () -> (long) bytes.length);
     }
 
     /**
@@ -302,7 +314,18 @@ public final class InputOf implements Input {
      * @param input The input
      */
     private InputOf(final Input input) {
+        this(input, () -> -1L);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param input The input
+     * @param size Expected size of the input
+     */
+    private InputOf(final Input input, final Scalar<Long> size) {
         this.origin = input;
+        this.expected = size;
     }
 
     @Override
@@ -310,4 +333,9 @@ public final class InputOf implements Input {
         return this.origin.stream();
     }
 
+    @Override
+    public long size() throws Exception {
+        return this.expected.value();
+    }
+
 }
@@ -25,8 +25,7 @@ package org.cactoos.io;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -66,7 +65,7 @@ public final class LoggingInputStream extends InputStream {
     private final AtomicLong bytes;
 
     /**
-     * The time took to read.
+     * The time took to read, in nanoseconds.
      */
     private final AtomicLong time;
 
@@ -138,30 +137,26 @@ public final class LoggingInputStream extends InputStream {
     @Override
     public int read(final byte[] buf, final int offset, final int len)
         throws IOException {
-        final Instant start = Instant.now();
+        final long start = System.nanoTime();
         final int byts = this.origin.read(buf, offset, len);
-        final Instant end = Instant.now();
-        if (byts > 0) {
+        final boolean read = byts > 0;
+        if (read) {
+            this.time.getAndAdd(System.nanoTime() - start);
             this.bytes.getAndAdd(byts);
-            final long millis = Duration.between(start, end).toMillis();
-            this.time.getAndAdd(millis);
         }
-        final UncheckedText msg = new UncheckedText(
-            new FormattedText(
-                "Read %d byte(s) from %s in %dms.",
-                this.bytes.get(),
-                this.source,
-                this.time.get()
-            )
-        );
-        if (byts > 0) {
-            if (!this.level.value().equals(Level.INFO)) {
-                this.logger.log(this.level.value(), msg.asString());
-            }
-        } else {
-            if (this.level.value().equals(Level.INFO)) {
-                this.logger.info(msg.asString());
-            }
+        if (read != this.level.value().equals(Level.INFO)
+            && this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new UncheckedText(
+                    new FormattedText(
+                        "Read %d byte(s) from %s in %dms.",
+                        this.bytes.get(),
+                        this.source,
+                        TimeUnit.NANOSECONDS.toMillis(this.time.get())
+                    )
+                ).asString()
+            );
         }
         return byts;
     }
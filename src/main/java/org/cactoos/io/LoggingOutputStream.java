@@ -25,8 +25,7 @@ package org.cactoos.io;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -69,7 +68,7 @@ public final class LoggingOutputStream extends OutputStream {
     private final AtomicLong bytes;
 
     /**
-     * The time took to read.
+     * The time took to write, in nanoseconds.
      */
     private final AtomicLong time;
 
@@ -115,14 +114,12 @@ public final class LoggingOutputStream extends OutputStream {
     @Override
     public void write(final byte[] buf, final int offset,
         final int len) throws IOException {
-        final Instant start = Instant.now();
+        final long start = System.nanoTime();
         this.origin.write(buf, offset, len);
-        final Instant end = Instant.now();
+        this.time.getAndAdd(System.nanoTime() - start);
         this.bytes.getAndAdd(len);
-        final long millis = Duration.between(start, end).toMillis();
-        this.time.getAndAdd(millis);
         final Level level = this.logger.getLevel();
-        if (!level.equals(Level.INFO)) {
+        if (!level.equals(Level.INFO) && this.logger.isLoggable(level)) {
             this.logger.log(
                 level,
                 new UncheckedText(
@@ -130,7 +127,7 @@ public final class LoggingOutputStream extends OutputStream {
                         "Written %d byte(s) to %s in %dms.",
                         this.bytes.get(),
                         this.destination,
-                        this.time.get()
+                        TimeUnit.NANOSECONDS.toMillis(this.time.get())
                     )
                 ).asString()
             );
@@ -141,55 +138,59 @@ public final class LoggingOutputStream extends OutputStream {
     public void close() throws IOException {
         this.origin.close();
         final Level level = this.logger.getLevel();
-        if (level.equals(Level.INFO)) {
+        if (this.logger.isLoggable(level)) {
+            if (level.equals(Level.INFO)) {
+                this.logger.log(
+                    level,
+                    new UncheckedText(
+                        new FormattedText(
+                            "Written %d byte(s) to %s in %dms.",
+                            this.bytes.get(),
+                            this.destination,
+                            TimeUnit.NANOSECONDS.toMillis(this.time.get())
+                        )
+                    ).asString()
+                );
+            }
             this.logger.log(
                 level,
                 new UncheckedText(
                     new FormattedText(
-                        "Written %d byte(s) to %s in %dms.",
-                        this.bytes.get(),
-                        this.destination,
-                        this.time.get()
+                        "Closed output stream from %s.",
+                        this.destination
                     )
                 ).asString()
             );
         }
-        this.logger.log(
-            level,
-            new UncheckedText(
-                new FormattedText(
-                    "Closed output stream from %s.",
-                    this.destination
-                )
-            ).asString()
-        );
     }
 
     @Override
     public void flush() throws IOException {
         this.origin.flush();
         final Level level = this.logger.getLevel();
-        if (level.equals(Level.INFO)) {
+        if (this.logger.isLoggable(level)) {
+            if (level.equals(Level.INFO)) {
+                this.logger.log(
+                    level,
+                    new UncheckedText(
+                        new FormattedText(
+                            "Written %d byte(s) to %s in %dms.",
+                            this.bytes.get(),
+                            this.destination,
+                            TimeUnit.NANOSECONDS.toMillis(this.time.get())
+                        )
+                    ).asString()
+                );
+            }
             this.logger.log(
                 level,
                 new UncheckedText(
                     new FormattedText(
-                        "Written %d byte(s) to %s in %dms.",
-                        this.bytes.get(),
-                        this.destination,
-                        this.time.get()
+                        "Flushed output stream from %s.",
+                        this.destination
                     )
                 ).asString()
             );
         }
-        this.logger.log(
-            level,
-            new UncheckedText(
-                new FormattedText(
-                    "Flushed output stream from %s.",
-                    this.destination
-                )
-            ).asString()
-        );
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Input of a file, mapped into memory.
+ *
+ * <p>The content is exposed as read-only {@link ByteBuffer}s, mapped by
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)}, without
+ * copying it into the heap. A {@code ByteBuffer} can't map more than
+ * 2 GiB, so large files are mapped by several segments.
+ * {@link org.cactoos.bytes.BytesOf}, {@link org.cactoos.scalar.LengthOf}
+ * and the digests of {@link org.cactoos.bytes.DigestEnvelope} detect
+ * this input and read the buffers directly.</p>
+ *
+ * <pre>{@code
+ * final byte[] sha = new Sha256DigestOf(
+ *     new MappedFile(Paths.get("/tmp/big.iso"))
+ * ).asBytes();
+ * }</pre>
+ *
+ * <p>The mapping is released by the garbage collector, so on some
+ * platforms the file can't be deleted while the buffers are
+ * reachable.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class MappedFile implements BuffersInput {
+
+    /**
+     * Maximum size of a segment.
+     */
+    private static final int SEGMENT = 1 << 30;
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Maximum size of a segment.
+     */
+    private final int segment;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedFile(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedFile(final Path file) {
+        this(file, MappedFile.SEGMENT);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param max Maximum size of a mapped segment
+     */
+    public MappedFile(final Path file, final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("The segment size must be positive: %d", max)
+            );
+        }
+        this.path = file;
+        this.segment = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new ByteBuffersInputStream(this.buffers());
+    }
+
+    @Override
+    public long size() throws Exception {
+        try (FileChannel channel = FileChannel.open(this.path)) {
+            return channel.size();
+        }
+    }
+
+    /**
+     * Map the file into memory.
+     *
+     * <p>Every call maps the file again and returns new buffers, their
+     * positions are at zero.</p>
+     *
+     * @return Read-only buffers, in order
+     * @throws Exception If fails
+     */
+    @Override
+    public List<ByteBuffer> buffers() throws Exception {
+        try (
+            FileChannel channel = FileChannel.open(
+                this.path, StandardOpenOption.READ
+            )
+        ) {
+            final long size = channel.size();
+            final List<ByteBuffer> buffers = new ArrayList<>(
+                (int) (size / this.segment + 1L)
+            );
+            for (long pos = 0L; pos < size; pos += this.segment) {
+                buffers.add(
+                    channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        pos,
+                        Math.min(this.segment, size - pos)
+                    )
+                );
+            }
+            return buffers;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import org.cactoos.Input;
+
+/**
+ * Input counting its reads in {@link Metrics}.
+ *
+ * <p>All streams of the input count in the same metrics, which can be
+ * polled while they are being used.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class MeteredInput implements Input {
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * The metrics.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param mtrcs The metrics
+     */
+    public MeteredInput(final Input input, final Metrics mtrcs) {
+        this.origin = input;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new MeteredInputStream(this.origin.stream(), this.metrics);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream counting its reads in {@link Metrics}.
+ *
+ * <p>Every read is timed by {@link System#nanoTime()}, reads at the
+ * end of the stream are not counted.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class MeteredInputStream extends InputStream {
+
+    /**
+     * The input stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * The metrics.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     * @param input Source of data
+     * @param mtrcs The metrics
+     */
+    public MeteredInputStream(final InputStream input, final Metrics mtrcs) {
+        super();
+        this.origin = input;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final long start = System.nanoTime();
+        final int data = this.origin.read();
+        if (data >= 0) {
+            this.metrics.record(1L, System.nanoTime() - start);
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf) throws IOException {
+        return this.read(buf, 0, buf.length);
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        final long start = System.nanoTime();
+        final int byts = this.origin.read(buf, offset, len);
+        if (byts >= 0) {
+            this.metrics.record(byts, System.nanoTime() - start);
+        }
+        return byts;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        return this.origin.skip(num);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.origin.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    @Override
+    public void mark(final int limit) {
+        this.origin.mark(limit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+        this.origin.reset();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return this.origin.markSupported();
+    }
+}
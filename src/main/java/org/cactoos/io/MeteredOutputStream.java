@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream counting its writes in {@link Metrics}.
+ *
+ * <p>Every write is timed by {@link System#nanoTime()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class MeteredOutputStream extends OutputStream {
+
+    /**
+     * The output stream.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The metrics.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     * @param output Destination of data
+     * @param mtrcs The metrics
+     */
+    public MeteredOutputStream(final OutputStream output,
+        final Metrics mtrcs) {
+        super();
+        this.origin = output;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        final long start = System.nanoTime();
+        this.origin.write(data);
+        this.metrics.record(1L, System.nanoTime() - start);
+    }
+
+    @Override
+    public void write(final byte[] buf) throws IOException {
+        this.write(buf, 0, buf.length);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        final long start = System.nanoTime();
+        this.origin.write(buf, offset, len);
+        this.metrics.record(len, System.nanoTime() - start);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
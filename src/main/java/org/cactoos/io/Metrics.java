@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Counters of reads or writes, their bytes and time, with histograms
+ * of sizes and times.
+ *
+ * <p>Counting takes no locks and no allocations, so it can stay on
+ * in production. Numbers can be polled at any moment by
+ * {@link #snapshot()}. They can also be logged, for a random sample
+ * of operations, one in {@code every} of them, and only if the level
+ * is loggable, so a quiet logger costs nothing:</p>
+ *
+ * <pre>{@code
+ * final Metrics metrics = new Metrics("uploads");
+ * new LengthOf(new MeteredInput(new InputOf(file), metrics)).value();
+ * final long p99 = metrics.snapshot().latency(0.99d);
+ * }</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.57
+ */
+@SuppressWarnings("PMD.LoggerIsNotStaticFinal")
+public final class Metrics {
+
+    /**
+     * Where the data comes from or goes to.
+     */
+    private final String source;
+
+    /**
+     * The logger.
+     */
+    private final Logger logger;
+
+    /**
+     * Level of the messages.
+     */
+    private final Level level;
+
+    /**
+     * One in how many operations is logged, zero for none.
+     */
+    private final long every;
+
+    /**
+     * Number of operations.
+     */
+    private final LongAdder ops;
+
+    /**
+     * Number of bytes.
+     */
+    private final LongAdder size;
+
+    /**
+     * Nanoseconds spent.
+     */
+    private final LongAdder time;
+
+    /**
+     * Sizes of operations.
+     */
+    private final Histogram sizes;
+
+    /**
+     * Nanoseconds of operations.
+     */
+    private final Histogram latencies;
+
+    /**
+     * Ctor, without logging.
+     */
+    public Metrics() {
+        this(
+            "metrics", Logger.getLogger(Metrics.class.getName()),
+            Level.OFF, 0L
+        );
+    }
+
+    /**
+     * Ctor, logging one in 1024 operations at the FINE level.
+     * @param src The name of the source
+     */
+    public Metrics(final String src) {
+        this(src, Logger.getLogger(src), Level.FINE, 1024L);
+    }
+
+    /**
+     * Ctor.
+     * @param src The name of the source
+     * @param lgr The logger
+     * @param lvl Level of the messages
+     * @param every One in how many operations is logged, zero for none
+     */
+    public Metrics(final String src, final Logger lgr, final Level lvl,
+        final long every) {
+        this.source = src;
+        this.logger = lgr;
+        this.level = lvl;
+        this.every = every;
+        this.ops = new LongAdder();
+        this.size = new LongAdder();
+        this.time = new LongAdder();
+        this.sizes = new Histogram();
+        this.latencies = new Histogram();
+    }
+
+    /**
+     * Count an operation.
+     * @param bytes Number of bytes read or written
+     * @param nanos Nanoseconds spent
+     */
+    public void record(final long bytes, final long nanos) {
+        final long spent = Math.max(nanos, 0L);
+        this.ops.increment();
+        this.size.add(bytes);
+        this.time.add(spent);
+        this.sizes.add(bytes);
+        this.latencies.add(spent);
+        if (this.every > 0L
+            && ThreadLocalRandom.current().nextLong(this.every) == 0L
+            && this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new UncheckedText(
+                    new FormattedText(
+                        "%s: %s", this.source, this.snapshot()
+                    )
+                ).asString()
+            );
+        }
+    }
+
+    /**
+     * Numbers at the moment.
+     * @return Snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(
+            this.ops.sum(),
+            this.size.sum(),
+            this.time.sum(),
+            this.sizes.counts(),
+            this.latencies.counts()
+        );
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.Locale;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Numbers of {@link Metrics} at one moment.
+ *
+ * <p>Quantiles of sizes and times are the highest values of their
+ * buckets, so they are at most two times bigger than the exact
+ * ones.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 0.57
+ */
+public final class MetricsSnapshot {
+
+    /**
+     * Number of operations.
+     */
+    private final long ops;
+
+    /**
+     * Number of bytes.
+     */
+    private final long size;
+
+    /**
+     * Nanoseconds spent.
+     */
+    private final long time;
+
+    /**
+     * Counts of sizes of operations, by bucket.
+     */
+    private final long[] sizes;
+
+    /**
+     * Counts of nanoseconds of operations, by bucket.
+     */
+    private final long[] latencies;
+
+    /**
+     * Ctor.
+     * @param ops Number of operations
+     * @param size Number of bytes
+     * @param time Nanoseconds spent
+     * @param sizes Counts of sizes of operations, by bucket
+     * @param latencies Counts of nanoseconds of operations, by bucket
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MetricsSnapshot(final long ops, final long size, final long time,
+        final long[] sizes, final long[] latencies) {
+        this.ops = ops;
+        this.size = size;
+        this.time = time;
+        this.sizes = sizes.clone();
+        this.latencies = latencies.clone();
+    }
+
+    /**
+     * Number of reads or writes.
+     * @return Number of operations
+     */
+    public long operations() {
+        return this.ops;
+    }
+
+    /**
+     * Number of bytes read or written.
+     * @return Number of bytes
+     */
+    public long bytes() {
+        return this.size;
+    }
+
+    /**
+     * Time spent in reads or writes.
+     * @return Nanoseconds
+     */
+    public long nanos() {
+        return this.time;
+    }
+
+    /**
+     * Bytes per second of time spent in reads or writes.
+     * @return Throughput, or zero if no time was spent
+     */
+    public double throughput() {
+        final double bps;
+        if (this.time == 0L) {
+            bps = 0.0d;
+        } else {
+            bps = this.size * 1.0e9d / this.time;
+        }
+        return bps;
+    }
+
+    /**
+     * Size of operations at the quantile.
+     * @param quantile The quantile, from zero to one
+     * @return Number of bytes
+     */
+    public long size(final double quantile) {
+        return Histogram.quantile(this.sizes, quantile);
+    }
+
+    /**
+     * Time of operations at the quantile.
+     * @param quantile The quantile, from zero to one
+     * @return Nanoseconds
+     */
+    public long latency(final double quantile) {
+        return Histogram.quantile(this.latencies, quantile);
+    }
+
+    @Override
+    public String toString() {
+        return new UncheckedText(
+            new FormattedText(
+                String.join(
+                    " ",
+                    "%d operation(s), %d byte(s) in %dns, %.0f byte(s)/s,",
+                    "size p50 %d p99 %d, latency p50 %dns p99 %dns"
+                ),
+                Locale.ENGLISH,
+                this.ops,
+                this.size,
+                this.time,
+                this.throughput(),
+                this.size(0.5d),
+                this.size(0.99d),
+                this.latency(0.5d),
+                this.latency(0.99d)
+            )
+        ).asString();
+    }
+}
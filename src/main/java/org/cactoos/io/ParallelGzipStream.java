@@ -0,0 +1,249 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * Stream of the GZIP format, deflating blocks of data in parallel.
+ *
+ * <p>Data is cut into blocks of the same size, every block is deflated
+ * by the service on its own, see {@link GzipBlock}, and deflated blocks
+ * are written in order, as one deflate stream of one GZIP member. At
+ * most two blocks per thread are kept in memory, the stream waits for
+ * the first of them when there are more. Flushing deflates what is
+ * written so far as a shorter block.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class ParallelGzipStream extends OutputStream {
+
+    /**
+     * GZIP header, without a name, time or extra fields.
+     */
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, 0,
+    };
+
+    /**
+     * The stream to write to.
+     */
+    private final OutputStream out;
+
+    /**
+     * The service deflating blocks.
+     */
+    private final ExecutorService service;
+
+    /**
+     * Maximum number of blocks being deflated.
+     */
+    private final int window;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Blocks being deflated, in order.
+     */
+    private final LinkedList<Future<byte[]>> ahead;
+
+    /**
+     * Checksum of all data.
+     */
+    private final CRC32 crc;
+
+    /**
+     * The block being filled.
+     */
+    private byte[] block;
+
+    /**
+     * Number of bytes in the block being filled.
+     */
+    private int pos;
+
+    /**
+     * The block deflated before.
+     */
+    private byte[] before;
+
+    /**
+     * Number of bytes in the block deflated before.
+     */
+    private int previous;
+
+    /**
+     * Number of bytes of all data.
+     */
+    private long total;
+
+    /**
+     * Is it closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param out The stream to write to
+     * @param size Size of a block
+     * @param level Compression level
+     * @param service The service deflating blocks
+     * @param window Maximum number of blocks being deflated
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ParallelGzipStream(final OutputStream out, final int size,
+        final int level, final ExecutorService service, final int window)
+        throws IOException {
+        super();
+        this.out = out;
+        this.level = level;
+        this.service = service;
+        this.window = window;
+        this.ahead = new LinkedList<>();
+        this.crc = new CRC32();
+        this.block = new byte[size];
+        this.before = new byte[0];
+        this.out.write(ParallelGzipStream.HEADER);
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+        this.crc.update(buf, off, len);
+        this.total += len;
+        int done = 0;
+        while (done < len) {
+            final int part = Math.min(len - done, this.block.length - this.pos);
+            System.arraycopy(buf, off + done, this.block, this.pos, part);
+            this.pos += part;
+            done += part;
+            if (this.pos == this.block.length) {
+                this.deflate(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!this.closed) {
+            if (this.pos > 0) {
+                this.deflate(false);
+            }
+            while (!this.ahead.isEmpty()) {
+                this.written();
+            }
+        }
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                this.deflate(true);
+                while (!this.ahead.isEmpty()) {
+                    this.written();
+                }
+                this.out.write(
+                    ParallelGzipStream.little(this.crc.getValue())
+                );
+                this.out.write(ParallelGzipStream.little(this.total));
+            } finally {
+                this.service.shutdownNow();
+                this.out.close();
+            }
+        }
+    }
+
+    /**
+     * Send the block being filled to the service and start a new one.
+     * @param last Is it the last block
+     * @throws IOException If fails
+     */
+    private void deflate(final boolean last) throws IOException {
+        this.ahead.add(
+            this.service.submit(
+                new GzipBlock(
+                    this.block, this.pos, this.before, this.previous,
+                    this.level, last
+                )
+            )
+        );
+        this.before = this.block;
+        this.previous = this.pos;
+        this.block = new byte[this.block.length];
+        this.pos = 0;
+        while (this.ahead.size() > this.window) {
+            this.written();
+        }
+    }
+
+    /**
+     * Wait for the first block being deflated and write it.
+     * @throws IOException If fails
+     */
+    private void written() throws IOException {
+        try {
+            this.out.write(this.ahead.removeFirst().get());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    /**
+     * Four bytes of the number, little-endian.
+     * @param num The number
+     * @return Bytes
+     */
+    private static byte[] little(final long num) {
+        return new byte[] {
+            (byte) num, (byte) (num >>> 8),
+            (byte) (num >>> 16), (byte) (num >>> 24),
+        };
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream that reads a byte ahead when asked what is available and
+ * nothing is.
+ *
+ * <p>{@link java.util.zip.GZIPInputStream} looks for the next member
+ * of the file only when some bytes are available, so members of a file
+ * read from a pipe or a socket were lost; with this stream below
+ * available bytes are zero only at the end.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class PeekedStream extends InputStream {
+
+    /**
+     * No byte read ahead.
+     */
+    private static final int NONE = -2;
+
+    /**
+     * The stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * The byte read ahead, end of the stream or none.
+     */
+    private int next;
+
+    /**
+     * Ctor.
+     * @param origin The stream
+     */
+    PeekedStream(final InputStream origin) {
+        super();
+        this.origin = origin;
+        this.next = PeekedStream.NONE;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.next == PeekedStream.NONE) {
+            data = this.origin.read();
+        } else {
+            data = this.next;
+            this.next = PeekedStream.NONE;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int count;
+        if (len == 0) {
+            count = 0;
+        } else if (this.next == PeekedStream.NONE) {
+            count = this.origin.read(buf, off, len);
+        } else if (this.next < 0) {
+            count = -1;
+        } else {
+            buf[off] = (byte) this.next;
+            this.next = PeekedStream.NONE;
+            count = 1;
+        }
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        int count = 0;
+        if (this.next == PeekedStream.NONE) {
+            count = this.origin.available();
+            if (count == 0) {
+                this.next = this.origin.read();
+            }
+        }
+        if (this.next >= 0) {
+            count = 1;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
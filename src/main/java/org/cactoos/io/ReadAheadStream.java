@@ -0,0 +1,234 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stream read ahead by a separate thread.
+ *
+ * <p>The thread reads chunks of the stream into a queue, so reading,
+ * decompression for example, goes on while the chunks read are being
+ * used. The thread closes the stream when it is done, closing this
+ * stream closes it as well. The thread is a daemon, so a stream which
+ * is not read to the end and not closed does not keep the JVM
+ * running.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class ReadAheadStream extends InputStream {
+
+    /**
+     * End of the stream.
+     */
+    private static final byte[] END = new byte[0];
+
+    /**
+     * The stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * Chunks read ahead, and the end after them.
+     */
+    private final BlockingQueue<byte[]> queue;
+
+    /**
+     * Is it closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Is the thread done.
+     */
+    private final CountDownLatch done;
+
+    /**
+     * Error of the thread.
+     */
+    private final AtomicReference<Throwable> error;
+
+    /**
+     * The chunk being read.
+     */
+    private byte[] chunk;
+
+    /**
+     * Position in the chunk being read.
+     */
+    private int pos;
+
+    /**
+     * Ctor.
+     * @param origin The stream
+     * @param size Size of a chunk
+     * @param depth Maximum number of chunks read ahead
+     */
+    ReadAheadStream(final InputStream origin, final int size,
+        final int depth) {
+        super();
+        this.origin = origin;
+        this.queue = new ArrayBlockingQueue<>(Math.max(depth, 1));
+        this.closed = new AtomicBoolean();
+        this.done = new CountDownLatch(1);
+        this.error = new AtomicReference<>();
+        this.chunk = new byte[0];
+        final Thread thread = new Thread(
+            () -> this.fill(Math.max(size, 1)), "cactoos-read-ahead"
+        );
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] buf = new byte[1];
+        int data = this.read(buf, 0, 1);
+        if (data > 0) {
+            data = buf[0] & 0xff;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.closed.get()) {
+            throw new IOException("The stream is closed");
+        }
+        while (this.pos == this.chunk.length
+            && this.chunk != ReadAheadStream.END) {
+            this.chunk = this.take();
+            this.pos = 0;
+        }
+        final int count;
+        if (this.chunk == ReadAheadStream.END) {
+            final Throwable err = this.error.get();
+            if (err instanceof IOException) {
+                throw (IOException) err;
+            }
+            if (err != null) {
+                throw new IOException(err);
+            }
+            count = -1;
+        } else {
+            count = Math.min(len, this.chunk.length - this.pos);
+            System.arraycopy(this.chunk, this.pos, buf, off, count);
+            this.pos += count;
+        }
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.chunk.length - this.pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed.set(true);
+        this.queue.clear();
+        try {
+            this.origin.close();
+        } finally {
+            try {
+                this.done.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Read the stream into the queue, in the thread.
+     * @param size Size of a chunk
+     */
+    @SuppressWarnings(
+        {
+            "PMD.AvoidInstantiatingObjectsInLoops",
+            "PMD.AvoidCatchingThrowable"
+        }
+    )
+    private void fill(final int size) {
+        try (InputStream src = this.origin) {
+            while (!this.closed.get()) {
+                final byte[] buf = new byte[size];
+                final int len = src.read(buf);
+                if (len < 0) {
+                    break;
+                }
+                if (len == size) {
+                    this.put(buf);
+                } else {
+                    this.put(Arrays.copyOf(buf, len));
+                }
+            }
+        } catch (final Throwable ex) {
+            this.error.set(ex);
+        } finally {
+            this.put(ReadAheadStream.END);
+            this.done.countDown();
+        }
+    }
+
+    /**
+     * Put the chunk into the queue, unless the stream is closed.
+     * @param buf The chunk
+     */
+    private void put(final byte[] buf) {
+        boolean queued = false;
+        try {
+            while (!queued && !this.closed.get()) {
+                queued = this.queue.offer(buf, 10L, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Take the next chunk from the queue.
+     * @return The chunk
+     * @throws IOException If interrupted
+     */
+    private byte[] take() throws IOException {
+        try {
+            return this.queue.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+}
@@ -25,6 +25,11 @@ package org.cactoos.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import org.cactoos.Func;
 import org.cactoos.Input;
 import org.cactoos.Text;
@@ -36,6 +41,9 @@ import org.cactoos.text.TextOf;
 /**
  * Classpath resource.
  *
+ * <p>The size of resources in files and JARs is known in advance, see
+ * {@link SizedInput}.</p>
+ *
  * <p>Pay attention that the name of resource must always be
  * global, <strong>not</strong> starting with a leading slash. Thus,
  * if you want to load a text file from {@code /com/example/Test.txt},
@@ -44,7 +52,7 @@ import org.cactoos.text.TextOf;
  * @see ClassLoader#getResource(String)
  * @since 0.1
  */
-public final class ResourceOf implements Input {
+public final class ResourceOf implements SizedInput {
 
     /**
      * Resource name.
@@ -221,4 +229,21 @@ public final class ResourceOf implements Input {
         }
         return input;
     }
+
+    @Override
+    public long size() throws Exception {
+        final URL url = this.loader.getResource(this.path.asString());
+        long size = -1L;
+        if (url != null) {
+            if ("file".equals(url.getProtocol())) {
+                size = Files.size(Paths.get(url.toURI()));
+            } else {
+                final URLConnection conn = url.openConnection();
+                if (conn instanceof JarURLConnection) {
+                    size = ((JarURLConnection) conn).getJarEntry().getSize();
+                }
+            }
+        }
+        return size;
+    }
 }
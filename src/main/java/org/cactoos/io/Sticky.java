@@ -24,12 +24,11 @@
 package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.scalar.IoChecked;
-import org.cactoos.scalar.LengthOf;
 
 /**
  * Input that reads only once.
@@ -41,7 +40,7 @@ import org.cactoos.scalar.LengthOf;
  *
  * @since 0.6
  */
-public final class Sticky implements Input {
+public final class Sticky implements SizedInput {
 
     /**
      * The cache.
@@ -54,13 +53,7 @@ public final class Sticky implements Input {
      */
     public Sticky(final Input input) {
         this.cache = new org.cactoos.scalar.Sticky<>(
-            () -> {
-                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                new LengthOf(
-                    new TeeInput(input, new OutputTo(baos))
-                ).value();
-                return baos.toByteArray();
-            }
+            () -> new BytesOf(input).asBytes()
         );
     }
 
@@ -71,4 +64,9 @@ public final class Sticky implements Input {
         );
     }
 
+    @Override
+    public long size() throws Exception {
+        return new IoChecked<>(this.cache).value().length;
+    }
+
 }
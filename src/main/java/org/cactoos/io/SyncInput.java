@@ -24,6 +24,9 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
 import org.cactoos.Input;
 
 /**
@@ -33,7 +36,7 @@ import org.cactoos.Input;
  *
  * @since 0.18
  */
-public final class SyncInput implements Input {
+public final class SyncInput implements BuffersInput {
 
     /**
      * The input.
@@ -69,4 +72,26 @@ public final class SyncInput implements Input {
             return this.origin.stream();
         }
     }
+
+    @Override
+    public long size() throws Exception {
+        long size = -1L;
+        if (this.origin instanceof SizedInput) {
+            synchronized (this.lock) {
+                size = ((SizedInput) this.origin).size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public List<ByteBuffer> buffers() throws Exception {
+        List<ByteBuffer> buffers = Collections.emptyList();
+        if (this.origin instanceof BuffersInput) {
+            synchronized (this.lock) {
+                buffers = ((BuffersInput) this.origin).buffers();
+            }
+        }
+        return buffers;
+    }
 }
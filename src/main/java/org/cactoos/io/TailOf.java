@@ -26,12 +26,14 @@ package org.cactoos.io;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import org.cactoos.Input;
-import org.cactoos.number.MinOf;
 import org.cactoos.text.FormattedText;
 
 /**
  * Input showing only last N bytes of the stream.
  *
+ * <p>The stream is read in chunks of at most the given maximum size,
+ * keeping only the last N bytes in a rolling window.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.30
@@ -85,56 +87,43 @@ public final class TailOf implements Input {
             );
         }
         final byte[] buffer = new byte[this.max];
-        final byte[] response = new byte[this.count];
-        int num = 0;
-        final InputStream strm = this.input.stream();
-        for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
-            if (read < this.max && read < this.count) {
-                num = this.copyPartial(buffer, response, num, read);
-            } else {
-                num = this.copy(buffer, response, read);
+        final byte[] ring = new byte[this.count];
+        long total = 0L;
+        try (InputStream strm = this.input.stream()) {
+            for (int read = strm.read(buffer); read > 0;
+                read = strm.read(buffer)) {
+                if (this.count > 0) {
+                    final int from = Math.max(0, read - this.count);
+                    this.roll(buffer, from, read - from, ring, total + from);
+                }
+                total += read;
             }
         }
-        return new ByteArrayInputStream(response, 0, num);
-    }
-
-    /**
-     * Copy full buffer to response.
-     * @param buffer The buffer array
-     * @param response The response array
-     * @param read Number of bytes read in buffer
-     * @return Number of bytes in the response buffer
-     */
-    private int copy(final byte[] buffer, final byte[] response,
-        final int read) {
-        System.arraycopy(
-            buffer, read - this.count, response, 0, this.count
-        );
-        return new MinOf(this.count, read).intValue();
+        final int size = (int) Math.min(total, this.count);
+        final byte[] response = new byte[size];
+        if (size > 0) {
+            final int start = (int) ((total - size) % this.count);
+            final int first = Math.min(size, this.count - start);
+            System.arraycopy(ring, start, response, 0, first);
+            System.arraycopy(ring, 0, response, first, size - first);
+        }
+        return new ByteArrayInputStream(response);
     }
 
     /**
-     * Copy buffer to response for read count smaller then buffer size.
+     * Copy bytes to the rolling window.
      * @param buffer The buffer array
-     * @param response The response array
-     * @param num Number of bytes in response array from previous read
-     * @param read Number of bytes read in the buffer
-     * @return New count of bytes in the response array
+     * @param from Position of the first byte in the buffer
+     * @param len Number of bytes to copy, not more than the window size
+     * @param ring The rolling window
+     * @param pos Position of the first byte in the input
      * @checkstyle ParameterNumberCheck (3 lines)
      */
-    private int copyPartial(final byte[] buffer, final byte[] response,
-        final int num, final int read) {
-        final int result;
-        if (num > 0) {
-            System.arraycopy(
-                response, read, response, 0, this.count - read
-            );
-            System.arraycopy(buffer, 0, response, this.count - read, read);
-            result = this.count;
-        } else {
-            System.arraycopy(buffer, 0, response, 0, read);
-            result = read;
-        }
-        return result;
+    private void roll(final byte[] buffer, final int from, final int len,
+        final byte[] ring, final long pos) {
+        final int start = (int) (pos % this.count);
+        final int first = Math.min(len, this.count - start);
+        System.arraycopy(buffer, from, ring, start, first);
+        System.arraycopy(buffer, from + first, ring, 0, len - first);
     }
 }
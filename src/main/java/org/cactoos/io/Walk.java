@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Depth-first traversal of a directory, reading its folders only
+ * when their paths are returned.
+ *
+ * <p>Paths are returned in the same order as by
+ * {@link Files#walk(Path, java.nio.file.FileVisitOption...)}, the directory
+ * itself goes first. Attributes of every path are read once, symbolic links
+ * are not followed. Folders are closed as soon as they are exhausted.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class Walk implements Iterator<Path> {
+
+    /**
+     * Which paths to visit, the others are skipped with their subtrees.
+     */
+    private final BiFunc<? super Path, ? super BasicFileAttributes, Boolean>
+        visit;
+
+    /**
+     * Maximum depth, the directory itself is at zero.
+     */
+    private final int depth;
+
+    /**
+     * Open folders, the deepest first.
+     */
+    private final LinkedList<DirectoryStream<Path>> folders;
+
+    /**
+     * Iterators of the open folders, the deepest first.
+     */
+    private final LinkedList<Iterator<Path>> listings;
+
+    /**
+     * The next path to return.
+     */
+    private final LinkedList<Path> ready;
+
+    /**
+     * Attributes of the next path to return.
+     */
+    private final LinkedList<BasicFileAttributes> attrs;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param visit Which paths to visit
+     * @param depth Maximum depth
+     */
+    Walk(final Path dir,
+        final BiFunc<? super Path, ? super BasicFileAttributes, Boolean> visit,
+        final int depth) {
+        this.visit = visit;
+        this.depth = depth;
+        this.folders = new LinkedList<>();
+        this.listings = new LinkedList<>();
+        this.ready = new LinkedList<>();
+        this.attrs = new LinkedList<>();
+        try {
+            this.attrs.add(Walk.attributes(dir));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        this.ready.add(dir);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.ready.isEmpty() && !this.listings.isEmpty()) {
+            this.advance();
+        }
+        return !this.ready.isEmpty();
+    }
+
+    @Override
+    public Path next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        final Path path = this.ready.removeFirst();
+        if (this.attrs.removeFirst().isDirectory()
+            && this.listings.size() < this.depth) {
+            try {
+                final DirectoryStream<Path> folder =
+                    Files.newDirectoryStream(path);
+                this.folders.addFirst(folder);
+                this.listings.addFirst(folder.iterator());
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Take the next path from the deepest open folder, or close it.
+     */
+    private void advance() {
+        try {
+            final Iterator<Path> listing = this.listings.getFirst();
+            if (listing.hasNext()) {
+                final Path path = listing.next();
+                final BasicFileAttributes attr = Walk.attributes(path);
+                if (new UncheckedBiFunc<>(this.visit).apply(path, attr)) {
+                    this.ready.add(path);
+                    this.attrs.add(attr);
+                }
+            } else {
+                this.listings.removeFirst();
+                this.folders.removeFirst().close();
+            }
+        } catch (final DirectoryIteratorException ex) {
+            throw new UncheckedIOException(ex.getCause());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Read attributes of the path, without following links.
+     * @param path The path
+     * @return Attributes
+     * @throws IOException If fails
+     */
+    static BasicFileAttributes attributes(final Path path) throws IOException {
+        return Files.readAttributes(
+            path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+        );
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded queue of the paths listed by a {@link ForkedWalk}.
+ *
+ * <p>The queue is closed when the walk is abandoned, that is collected
+ * as garbage before it is read to the end. Paths put into a
+ * closed queue are dropped, so the folders being listed stop waiting
+ * for a reader who is gone.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class WalkQueue {
+
+    /**
+     * Paths listed, and an empty one after the last.
+     */
+    private final BlockingQueue<Optional<Path>> queue;
+
+    /**
+     * The walk reading the queue.
+     */
+    private final WeakReference<Object> owner;
+
+    /**
+     * Is it closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param owner The walk reading the queue
+     * @param bound Maximum number of paths in the queue
+     */
+    WalkQueue(final Object owner, final int bound) {
+        this.queue = new LinkedBlockingQueue<>(bound);
+        this.owner = new WeakReference<>(owner);
+        this.closed = new AtomicBoolean();
+    }
+
+    /**
+     * Put the path into the queue, unless it is closed.
+     * @param path The path, or empty after the last
+     * @return FALSE if the queue is closed
+     * @throws InterruptedException If interrupted while waiting
+     */
+    boolean put(final Optional<Path> path) throws InterruptedException {
+        boolean queued = false;
+        while (!queued && !this.closed()) {
+            queued = this.queue.offer(path, 10L, TimeUnit.MILLISECONDS);
+        }
+        return queued;
+    }
+
+    /**
+     * Take the next path, waiting for it if necessary.
+     * @return The path, or empty after the last
+     * @throws InterruptedException If interrupted while waiting
+     */
+    Optional<Path> take() throws InterruptedException {
+        return this.queue.take();
+    }
+
+    /**
+     * Is it closed, because the walk is gone.
+     * @return TRUE if closed
+     */
+    boolean closed() {
+        if (this.owner.get() == null) {
+            this.closed.set(true);
+        }
+        return this.closed.get();
+    }
+}
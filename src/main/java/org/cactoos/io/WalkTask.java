@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RecursiveAction;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Listing of a folder, forking a task for every subfolder and putting
+ * visited paths into a queue.
+ *
+ * <p>The listing stops, without forking, once the queue is closed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class WalkTask extends RecursiveAction {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 6_186_263_417_520_335_402L;
+
+    /**
+     * The folder.
+     */
+    private final transient Path folder;
+
+    /**
+     * Depth of the folder.
+     */
+    private final int level;
+
+    /**
+     * Which paths to visit, the others are skipped with their subtrees.
+     */
+    private final transient BiFunc<? super Path,
+        ? super BasicFileAttributes, Boolean> visit;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Where to put visited paths.
+     */
+    private final transient WalkQueue queue;
+
+    /**
+     * Ctor.
+     * @param folder The folder
+     * @param level Depth of the folder
+     * @param visit Which paths to visit
+     * @param depth Maximum depth
+     * @param queue Where to put visited paths
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    WalkTask(final Path folder, final int level,
+        final BiFunc<? super Path, ? super BasicFileAttributes, Boolean> visit,
+        final int depth, final WalkQueue queue) {
+        super();
+        this.folder = folder;
+        this.level = level;
+        this.visit = visit;
+        this.depth = depth;
+        this.queue = queue;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    protected void compute() {
+        final List<WalkTask> subs = new LinkedList<>();
+        boolean open = true;
+        try (DirectoryStream<Path> paths =
+            Files.newDirectoryStream(this.folder)) {
+            final Iterator<Path> iter = paths.iterator();
+            while (open && iter.hasNext()) {
+                final Path path = iter.next();
+                final BasicFileAttributes attr = Walk.attributes(path);
+                if (new UncheckedBiFunc<>(this.visit).apply(path, attr)) {
+                    open = this.queue.put(Optional.of(path));
+                    if (attr.isDirectory() && this.level + 1 < this.depth) {
+                        subs.add(
+                            new WalkTask(
+                                path, this.level + 1, this.visit,
+                                this.depth, this.queue
+                            )
+                        );
+                    }
+                }
+            }
+        } catch (final DirectoryIteratorException ex) {
+            throw new UncheckedIOException(ex.getCause());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        if (open) {
+            WalkTask.invokeAll(subs);
+        }
+    }
+}
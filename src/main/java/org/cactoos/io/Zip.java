@@ -24,25 +24,27 @@
 
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
 import java.nio.file.Path;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import org.cactoos.Func;
 import org.cactoos.Input;
-import org.cactoos.bytes.BytesOf;
 
 /**
  * Zip files and directory.
- * <br>
- * <br>There is no thread-safety guarantee.
+ *
+ * <p>The archive is produced while its stream is read, so neither
+ * the archive nor whole files are kept in memory. Files can be deflated
+ * with a given compression level, or stored without compression, which
+ * makes sense for files that are already compressed. With more than one
+ * thread, files after the current one are deflated ahead into memory in
+ * parallel, files larger than 64 MiB are still deflated while reading.</p>
+ *
+ * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
  */
-@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
 public final class Zip implements Input {
 
     /**
@@ -50,6 +52,21 @@ public final class Zip implements Input {
      */
     private final Iterable<? extends Path> origin;
 
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Which files to store without compression.
+     */
+    private final Func<? super Path, Boolean> stored;
+
+    /**
+     * Number of threads to deflate files in parallel.
+     */
+    private final int threads;
+
     /**
      * Ctor.
      * Usage examples:
@@ -63,29 +80,79 @@ public final class Zip implements Input {
      * @param origin Origin {@link Path} list (e. g. a {@link Directory})
      */
     public Zip(final Iterable<? extends Path> origin) {
+        this(origin, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin {@link Path} list (e. g. a {@link Directory})
+     * @param level Compression level, from 0 to 9
+     * @since 0.57
+     */
+    public Zip(final Iterable<? extends Path> origin, final int level) {
+        this(origin, level, path -> false);
+    }
+
+    /**
+     * Ctor.
+     * Usage example:
+     * <pre>
+     * {@code
+     * new Zip(
+     *     new Directory(new File("/tmp")),
+     *     Deflater.BEST_SPEED,
+     *     path -> path.toString().endsWith(".gz")
+     * );
+     * }
+     * </pre>
+     *
+     * @param origin Origin {@link Path} list (e. g. a {@link Directory})
+     * @param level Compression level, from 0 to 9
+     * @param stored Which files to store without compression
+     * @since 0.57
+     */
+    public Zip(final Iterable<? extends Path> origin, final int level,
+        final Func<? super Path, Boolean> stored) {
+        this(origin, level, stored, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin {@link Path} list (e. g. a {@link Directory})
+     * @param level Compression level, from 0 to 9
+     * @param stored Which files to store without compression
+     * @param threads Number of threads to deflate files in parallel
+     * @since 0.57
+     */
+    public Zip(final Iterable<? extends Path> origin, final int level,
+        final Func<? super Path, Boolean> stored, final int threads) {
         this.origin = origin;
+        this.level = level;
+        this.stored = stored;
+        this.threads = threads;
     }
 
     @Override
-    public InputStream stream() throws Exception {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (ZipOutputStream zip = new ZipOutputStream(out)) {
-            for (final Path path : this.origin) {
-                final File file = path.toFile();
-                final ZipEntry entry = new ZipEntry(
-                    file.getPath()
-                );
-                zip.putNextEntry(entry);
-                if (file.isFile()) {
-                    try (
-                        FileInputStream input = new FileInputStream(file)
-                    ) {
-                        zip.write(new BytesOf(new InputOf(input)).asBytes());
+    public InputStream stream() {
+        final InputStream stream;
+        if (this.threads > 1) {
+            stream = new ZipStream(
+                this.origin, this.level, this.stored,
+                Executors.newFixedThreadPool(
+                    this.threads,
+                    runnable -> {
+                        final Thread thread = new Thread(
+                            runnable, "cactoos-zip"
+                        );
+                        thread.setDaemon(true);
+                        return thread;
                     }
-                }
-                zip.closeEntry();
-            }
+                ),
+                this.threads
+            );
+        } else {
+            stream = new ZipStream(this.origin, this.level, this.stored);
         }
-        return new ByteArrayInputStream(out.toByteArray());
+        return stream;
     }
 }
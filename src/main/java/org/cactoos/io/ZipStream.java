@@ -0,0 +1,713 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import org.cactoos.Func;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Zip archive of files, produced while it's being read.
+ *
+ * <p>Only the bytes not yet read, a chunk of the current file and the
+ * central directory are kept in memory. Deflated entries are written with
+ * a data descriptor, since their size is known only when they are
+ * deflated. Stored entries are read twice: to calculate their checksum
+ * and to copy them. ZIP64 records are used when sizes, offsets or number
+ * of entries don't fit into the classic format.</p>
+ *
+ * <p>With a positive window, up to that many files after the current one
+ * are deflated ahead into memory by the executor, unless they are larger
+ * than {@link #LARGE}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyFields",
+        "PMD.TooManyMethods",
+        "PMD.AvoidInstantiatingObjectsInLoops"
+    }
+)
+final class ZipStream extends InputStream {
+
+    /**
+     * Number of bytes read from a file at once.
+     */
+    static final int CHUNK = 65_536;
+
+    /**
+     * Largest file to deflate ahead into memory.
+     */
+    static final long LARGE = 1L << 26;
+
+    /**
+     * Largest value of a classic 32-bit field.
+     */
+    private static final long MAGIC = 0xFFFF_FFFFL;
+
+    /**
+     * Largest value of a classic 16-bit field.
+     */
+    private static final int SHORT = 0xFFFF;
+
+    /**
+     * Entry of a directory or anything else that is not a file.
+     */
+    private static final int FOLDER = -1;
+
+    /**
+     * Flag of entries with a data descriptor.
+     */
+    private static final int DESCRIPTOR = 0x08;
+
+    /**
+     * Flag of entries with names in UTF-8.
+     */
+    private static final int UTF = 0x800;
+
+    /**
+     * Version needed to extract classic entries.
+     */
+    private static final int CLASSIC = 20;
+
+    /**
+     * Version needed to extract ZIP64 entries.
+     */
+    private static final int WIDE = 45;
+
+    /**
+     * State: between entries.
+     */
+    private static final int IDLE = 0;
+
+    /**
+     * State: copying a stored file.
+     */
+    private static final int STORING = 1;
+
+    /**
+     * State: deflating a file.
+     */
+    private static final int DEFLATING = 2;
+
+    /**
+     * State: the whole archive is produced.
+     */
+    private static final int ENDED = 3;
+
+    /**
+     * Files to archive.
+     */
+    private final Iterator<? extends Path> paths;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Which files to store without compression.
+     */
+    private final Func<? super Path, Boolean> stored;
+
+    /**
+     * Executor to deflate files ahead, if any.
+     */
+    private final Optional<ExecutorService> service;
+
+    /**
+     * How many files to deflate ahead.
+     */
+    private final int window;
+
+    /**
+     * Files taken from the iterator and not archived yet.
+     */
+    private final LinkedList<Path> queued;
+
+    /**
+     * Compression methods of the queued files.
+     */
+    private final LinkedList<Integer> methods;
+
+    /**
+     * Files of the queue deflated ahead.
+     */
+    private final LinkedList<Future<Optional<DeflatedEntry>>> ahead;
+
+    /**
+     * Bytes being produced.
+     */
+    private final ByteArrayOutputStream staging;
+
+    /**
+     * Central directory.
+     */
+    private final ByteArrayOutputStream central;
+
+    /**
+     * Bytes read from the file.
+     */
+    private final byte[] input;
+
+    /**
+     * Bytes deflated.
+     */
+    private final byte[] output;
+
+    /**
+     * Checksum of the current file.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Deflater of the current file.
+     */
+    private final Deflater deflater;
+
+    /**
+     * The current file.
+     */
+    private InputStream file;
+
+    /**
+     * Bytes produced and not read yet.
+     */
+    private byte[] pending;
+
+    /**
+     * Position in the pending bytes.
+     */
+    private int pos;
+
+    /**
+     * Number of bytes produced before the pending ones.
+     */
+    private long offset;
+
+    /**
+     * Number of entries.
+     */
+    private long entries;
+
+    /**
+     * Name of the current entry.
+     */
+    private byte[] name;
+
+    /**
+     * Modification time of the current entry, in MS-DOS format.
+     */
+    private long time;
+
+    /**
+     * Offset of the current entry.
+     */
+    private long start;
+
+    /**
+     * Checksum of the current stored entry.
+     */
+    private long checksum;
+
+    /**
+     * Size of the current stored entry.
+     */
+    private long size;
+
+    /**
+     * What is being done.
+     */
+    private int state;
+
+    /**
+     * Ctor, deflating files one by one while reading.
+     * @param paths Files to archive
+     * @param level Compression level
+     * @param stored Which files to store without compression
+     */
+    ZipStream(final Iterable<? extends Path> paths, final int level,
+        final Func<? super Path, Boolean> stored) {
+        this(paths, level, stored, Optional.empty(), 0);
+    }
+
+    /**
+     * Ctor.
+     * @param paths Files to archive
+     * @param level Compression level
+     * @param stored Which files to store without compression
+     * @param service Executor to deflate files ahead, shut down on close
+     * @param window How many files to deflate ahead
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    ZipStream(final Iterable<? extends Path> paths, final int level,
+        final Func<? super Path, Boolean> stored,
+        final ExecutorService service, final int window) {
+        this(paths, level, stored, Optional.of(service), window);
+    }
+
+    /**
+     * Ctor.
+     * @param paths Files to archive
+     * @param level Compression level
+     * @param stored Which files to store without compression
+     * @param service Executor to deflate files ahead, if any
+     * @param window How many files to deflate ahead, zero to deflate
+     *  them one by one while reading
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private ZipStream(final Iterable<? extends Path> paths, final int level,
+        final Func<? super Path, Boolean> stored,
+        final Optional<ExecutorService> service, final int window) {
+        super();
+        this.paths = paths.iterator();
+        this.level = level;
+        this.stored = stored;
+        this.service = service;
+        this.window = window;
+        this.queued = new LinkedList<>();
+        this.methods = new LinkedList<>();
+        this.ahead = new LinkedList<>();
+        this.staging = new ByteArrayOutputStream();
+        this.central = new ByteArrayOutputStream();
+        this.input = new byte[ZipStream.CHUNK];
+        this.output = new byte[ZipStream.CHUNK];
+        this.crc = new CRC32();
+        this.deflater = new Deflater(level, true);
+        this.file = new DeadInputStream();
+        this.pending = new byte[0];
+        this.state = ZipStream.IDLE;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int result;
+        if (this.read(one, 0, 1) < 0) {
+            result = -1;
+        } else {
+            result = one[0] & 0xff;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        while (len > 0 && this.pos == this.pending.length
+            && this.state != ZipStream.ENDED) {
+            this.fill();
+        }
+        final int result;
+        if (len == 0) {
+            result = 0;
+        } else if (this.pos == this.pending.length) {
+            result = -1;
+        } else {
+            result = Math.min(len, this.pending.length - this.pos);
+            System.arraycopy(this.pending, this.pos, buf, off, result);
+            this.pos += result;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Future<?> future : this.ahead) {
+            future.cancel(true);
+        }
+        this.service.ifPresent(ExecutorService::shutdownNow);
+        this.deflater.end();
+        this.state = ZipStream.ENDED;
+        this.file.close();
+    }
+
+    /**
+     * Produce the next bytes.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        this.staging.reset();
+        if (this.state == ZipStream.STORING) {
+            this.store();
+        } else if (this.state == ZipStream.DEFLATING) {
+            this.deflate();
+        } else if (this.queue()) {
+            this.begin(
+                this.queued.removeFirst(),
+                this.methods.removeFirst(),
+                new IoChecked<>(this.ahead.removeFirst()::get).value()
+            );
+        } else {
+            this.end();
+        }
+        this.pending = this.staging.toByteArray();
+        this.pos = 0;
+        this.offset += this.pending.length;
+    }
+
+    /**
+     * Take files from the iterator, deflating them ahead if needed.
+     * @return TRUE if there are files to archive
+     * @throws IOException If fails
+     */
+    private boolean queue() throws IOException {
+        while (this.queued.size() < Math.max(this.window, 1)
+            && this.paths.hasNext()) {
+            final Path path = this.paths.next();
+            final File entry = path.toFile();
+            final int method;
+            if (!entry.isFile()) {
+                method = ZipStream.FOLDER;
+            } else if (new IoChecked<>(() -> this.stored.apply(path)).value()) {
+                method = ZipEntry.STORED;
+            } else {
+                method = ZipEntry.DEFLATED;
+            }
+            if (this.service.isPresent() && method == ZipEntry.DEFLATED
+                && entry.length() <= ZipStream.LARGE) {
+                final DeflatedEntry deflated = new DeflatedEntry(
+                    path, this.level
+                );
+                this.ahead.add(
+                    this.service.get().submit(
+                        () -> Optional.of(deflated.call())
+                    )
+                );
+            } else {
+                this.ahead.add(
+                    CompletableFuture.completedFuture(Optional.empty())
+                );
+            }
+            this.queued.add(path);
+            this.methods.add(method);
+        }
+        return !this.queued.isEmpty();
+    }
+
+    /**
+     * Start the entry of the file.
+     * @param path The file
+     * @param method Compression method
+     * @param deflated The file deflated ahead, if it was
+     * @throws IOException If fails
+     */
+    private void begin(final Path path, final int method,
+        final Optional<DeflatedEntry> deflated) throws IOException {
+        final File entry = path.toFile();
+        this.name = entry.getPath().getBytes(StandardCharsets.UTF_8);
+        this.time = ZipStream.dos(entry.lastModified());
+        this.start = this.offset;
+        if (method == ZipStream.FOLDER) {
+            this.local(ZipEntry.STORED, 0, 0L, 0L, 0L);
+            this.record(ZipEntry.STORED, 0, 0L, 0L, 0L);
+        } else if (method == ZipEntry.STORED) {
+            this.crc.reset();
+            this.size = 0L;
+            try (InputStream src = new FileInputStream(entry)) {
+                for (int len = src.read(this.input); len >= 0;
+                    len = src.read(this.input)) {
+                    this.crc.update(this.input, 0, len);
+                    this.size += len;
+                }
+            }
+            this.checksum = this.crc.getValue();
+            this.local(ZipEntry.STORED, 0, this.checksum, this.size, this.size);
+            this.file = new FileInputStream(entry);
+            this.state = ZipStream.STORING;
+        } else if (deflated.isPresent()) {
+            final byte[] bytes = deflated.get().bytes();
+            final long sum = deflated.get().checksum();
+            final long length = deflated.get().length();
+            this.local(ZipEntry.DEFLATED, 0, sum, bytes.length, length);
+            this.staging.write(bytes, 0, bytes.length);
+            this.record(ZipEntry.DEFLATED, 0, sum, bytes.length, length);
+        } else {
+            this.local(ZipEntry.DEFLATED, ZipStream.DESCRIPTOR, 0L, 0L, 0L);
+            this.crc.reset();
+            this.deflater.reset();
+            this.file = new FileInputStream(entry);
+            this.state = ZipStream.DEFLATING;
+        }
+    }
+
+    /**
+     * Copy the next chunk of the stored file.
+     * @throws IOException If fails
+     */
+    private void store() throws IOException {
+        final int len = this.file.read(this.input);
+        if (len < 0) {
+            this.file.close();
+            this.record(
+                ZipEntry.STORED, 0, this.checksum, this.size, this.size
+            );
+            this.state = ZipStream.IDLE;
+        } else {
+            this.staging.write(this.input, 0, len);
+        }
+    }
+
+    /**
+     * Deflate the next chunk of the file.
+     * @throws IOException If fails
+     */
+    private void deflate() throws IOException {
+        final int len = this.file.read(this.input);
+        if (len < 0) {
+            this.file.close();
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                this.staging.write(
+                    this.output, 0, this.deflater.deflate(this.output)
+                );
+            }
+            final long csize = this.deflater.getBytesWritten();
+            final long length = this.deflater.getBytesRead();
+            final long sum = this.crc.getValue();
+            ZipStream.write(this.staging, 0x08074b50L, 4);
+            ZipStream.write(this.staging, sum, 4);
+            if (csize >= ZipStream.MAGIC || length >= ZipStream.MAGIC) {
+                ZipStream.write(this.staging, csize, 8);
+                ZipStream.write(this.staging, length, 8);
+            } else {
+                ZipStream.write(this.staging, csize, 4);
+                ZipStream.write(this.staging, length, 4);
+            }
+            this.record(
+                ZipEntry.DEFLATED, ZipStream.DESCRIPTOR, sum, csize, length
+            );
+            this.state = ZipStream.IDLE;
+        } else {
+            this.crc.update(this.input, 0, len);
+            this.deflater.setInput(this.input, 0, len);
+            while (!this.deflater.needsInput()) {
+                this.staging.write(
+                    this.output, 0, this.deflater.deflate(this.output)
+                );
+            }
+        }
+    }
+
+    /**
+     * Write the local header of the current entry.
+     * @param method Compression method
+     * @param flag General purpose flag
+     * @param sum Checksum
+     * @param csize Compressed size
+     * @param length Uncompressed size
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void local(final int method, final int flag, final long sum,
+        final long csize, final long length) {
+        final boolean wide = csize >= ZipStream.MAGIC
+            || length >= ZipStream.MAGIC;
+        ZipStream.write(this.staging, 0x04034b50L, 4);
+        if (wide) {
+            ZipStream.write(this.staging, ZipStream.WIDE, 2);
+        } else {
+            ZipStream.write(this.staging, ZipStream.CLASSIC, 2);
+        }
+        ZipStream.write(this.staging, flag | ZipStream.UTF, 2);
+        ZipStream.write(this.staging, method, 2);
+        ZipStream.write(this.staging, this.time, 4);
+        ZipStream.write(this.staging, sum, 4);
+        if (wide) {
+            ZipStream.write(this.staging, ZipStream.MAGIC, 4);
+            ZipStream.write(this.staging, ZipStream.MAGIC, 4);
+        } else {
+            ZipStream.write(this.staging, csize, 4);
+            ZipStream.write(this.staging, length, 4);
+        }
+        ZipStream.write(this.staging, this.name.length, 2);
+        if (wide) {
+            ZipStream.write(this.staging, 20, 2);
+        } else {
+            ZipStream.write(this.staging, 0, 2);
+        }
+        this.staging.write(this.name, 0, this.name.length);
+        if (wide) {
+            ZipStream.write(this.staging, 1, 2);
+            ZipStream.write(this.staging, 16, 2);
+            ZipStream.write(this.staging, length, 8);
+            ZipStream.write(this.staging, csize, 8);
+        }
+    }
+
+    /**
+     * Add the current entry to the central directory.
+     * @param method Compression method
+     * @param flag General purpose flag
+     * @param sum Checksum
+     * @param csize Compressed size
+     * @param length Uncompressed size
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void record(final int method, final int flag, final long sum,
+        final long csize, final long length) {
+        final ByteArrayOutputStream extra = new ByteArrayOutputStream();
+        if (length >= ZipStream.MAGIC) {
+            ZipStream.write(extra, length, 8);
+        }
+        if (csize >= ZipStream.MAGIC) {
+            ZipStream.write(extra, csize, 8);
+        }
+        if (this.start >= ZipStream.MAGIC) {
+            ZipStream.write(extra, this.start, 8);
+        }
+        final int version;
+        if (extra.size() > 0) {
+            version = ZipStream.WIDE;
+        } else {
+            version = ZipStream.CLASSIC;
+        }
+        ZipStream.write(this.central, 0x02014b50L, 4);
+        ZipStream.write(this.central, version, 2);
+        ZipStream.write(this.central, version, 2);
+        ZipStream.write(this.central, flag | ZipStream.UTF, 2);
+        ZipStream.write(this.central, method, 2);
+        ZipStream.write(this.central, this.time, 4);
+        ZipStream.write(this.central, sum, 4);
+        ZipStream.write(this.central, Math.min(csize, ZipStream.MAGIC), 4);
+        ZipStream.write(this.central, Math.min(length, ZipStream.MAGIC), 4);
+        ZipStream.write(this.central, this.name.length, 2);
+        if (extra.size() > 0) {
+            ZipStream.write(this.central, extra.size() + 4, 2);
+        } else {
+            ZipStream.write(this.central, 0, 2);
+        }
+        ZipStream.write(this.central, 0, 2);
+        ZipStream.write(this.central, 0, 2);
+        ZipStream.write(this.central, 0, 2);
+        ZipStream.write(this.central, 0, 4);
+        ZipStream.write(
+            this.central, Math.min(this.start, ZipStream.MAGIC), 4
+        );
+        this.central.write(this.name, 0, this.name.length);
+        if (extra.size() > 0) {
+            ZipStream.write(this.central, 1, 2);
+            ZipStream.write(this.central, extra.size(), 2);
+            this.central.write(extra.toByteArray(), 0, extra.size());
+        }
+        ++this.entries;
+    }
+
+    /**
+     * Write the central directory and the end records.
+     */
+    private void end() {
+        final long dir = this.offset;
+        final long length = this.central.size();
+        this.staging.write(this.central.toByteArray(), 0, (int) length);
+        if (this.entries >= ZipStream.SHORT || dir >= ZipStream.MAGIC) {
+            ZipStream.write(this.staging, 0x06064b50L, 4);
+            ZipStream.write(this.staging, 44L, 8);
+            ZipStream.write(this.staging, ZipStream.WIDE, 2);
+            ZipStream.write(this.staging, ZipStream.WIDE, 2);
+            ZipStream.write(this.staging, 0, 4);
+            ZipStream.write(this.staging, 0, 4);
+            ZipStream.write(this.staging, this.entries, 8);
+            ZipStream.write(this.staging, this.entries, 8);
+            ZipStream.write(this.staging, length, 8);
+            ZipStream.write(this.staging, dir, 8);
+            ZipStream.write(this.staging, 0x07064b50L, 4);
+            ZipStream.write(this.staging, 0, 4);
+            ZipStream.write(this.staging, dir + length, 8);
+            ZipStream.write(this.staging, 1, 4);
+        }
+        ZipStream.write(this.staging, 0x06054b50L, 4);
+        ZipStream.write(this.staging, 0, 2);
+        ZipStream.write(this.staging, 0, 2);
+        ZipStream.write(
+            this.staging, Math.min(this.entries, ZipStream.SHORT), 2
+        );
+        ZipStream.write(
+            this.staging, Math.min(this.entries, ZipStream.SHORT), 2
+        );
+        ZipStream.write(this.staging, length, 4);
+        ZipStream.write(this.staging, Math.min(dir, ZipStream.MAGIC), 4);
+        ZipStream.write(this.staging, 0, 2);
+        this.central.reset();
+        this.service.ifPresent(ExecutorService::shutdown);
+        this.state = ZipStream.ENDED;
+    }
+
+    /**
+     * Write a little-endian number.
+     * @param out Where to write
+     * @param value The number
+     * @param bytes How many bytes to write
+     */
+    private static void write(final ByteArrayOutputStream out,
+        final long value, final int bytes) {
+        for (int idx = 0; idx < bytes; ++idx) {
+            out.write((int) (value >>> (idx << 3)) & 0xff);
+        }
+    }
+
+    /**
+     * Time in MS-DOS format, used by zip archives.
+     * @param millis Milliseconds since epoch
+     * @return Date in the higher 16 bits and time in the lower ones
+     */
+    private static long dos(final long millis) {
+        final LocalDateTime date = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(millis), ZoneId.systemDefault()
+        );
+        final long result;
+        if (date.getYear() < 1980) {
+            result = 1L << 21 | 1L << 16;
+        } else {
+            result = (long) (date.getYear() - 1980) << 25
+                | (long) date.getMonthValue() << 21
+                | (long) date.getDayOfMonth() << 16
+                | (long) date.getHour() << 11
+                | (long) date.getMinute() << 5
+                | (long) date.getSecond() >> 1;
+        }
+        return result;
+    }
+}
@@ -54,7 +54,8 @@ public final class HeadOf<T> extends IterableEnvelope<T> {
                 () -> new org.cactoos.iterator.HeadOf<>(
                     num,
                     iterable.iterator()
-                )
+                ),
+                () -> new SlicedSpliterator<>(0L, num, iterable.spliterator())
             )
         );
     }
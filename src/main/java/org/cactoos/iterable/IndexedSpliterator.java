@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over items, which are taken by their indexes.
+ *
+ * <p>It's sized and splits in halves, the way the spliterator of an
+ * array does.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @since 0.57
+ */
+final class IndexedSpliterator<X> implements Spliterator<X> {
+
+    /**
+     * Item by its index.
+     */
+    private final IntFunction<? extends X> item;
+
+    /**
+     * The index after the last item.
+     */
+    private final int fence;
+
+    /**
+     * The index of the next item.
+     */
+    private int index;
+
+    /**
+     * Ctor.
+     * @param size Number of items
+     * @param item Item by its index
+     */
+    IndexedSpliterator(final int size, final IntFunction<? extends X> item) {
+        this(item, 0, size);
+    }
+
+    /**
+     * Ctor.
+     * @param item Item by its index
+     * @param origin The index of the first item
+     * @param fence The index after the last item
+     */
+    private IndexedSpliterator(final IntFunction<? extends X> item,
+        final int origin, final int fence) {
+        this.item = item;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super X> action) {
+        final boolean more = this.index < this.fence;
+        if (more) {
+            action.accept(this.item.apply(this.index));
+            ++this.index;
+        }
+        return more;
+    }
+
+    @Override
+    public Spliterator<X> trySplit() {
+        final int middle = (this.index + this.fence) >>> 1;
+        Spliterator<X> prefix = null;
+        if (this.index < middle) {
+            prefix = new IndexedSpliterator<>(this.item, this.index, middle);
+            this.index = middle;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (long) this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED
+            | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
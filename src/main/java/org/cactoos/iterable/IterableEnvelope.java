@@ -24,6 +24,7 @@
 package org.cactoos.iterable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 /**
  * Iterable envelope.
@@ -53,6 +54,11 @@ public abstract class IterableEnvelope<X> implements Iterable<X> {
         return this.wrapped.iterator();
     }
 
+    @Override
+    public final Spliterator<X> spliterator() {
+        return this.wrapped.spliterator();
+    }
+
     @Override
     public final boolean equals(final Object other) {
         return this.wrapped.equals(other);
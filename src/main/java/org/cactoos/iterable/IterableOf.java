@@ -24,7 +24,10 @@
 package org.cactoos.iterable;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.Fallback;
 import org.cactoos.Scalar;
 import org.cactoos.iterator.IteratorOf;
@@ -39,6 +42,9 @@ import org.cactoos.text.UncheckedText;
 /**
  * Array as iterable.
  *
+ * <p>The {@link #spliterator()} of an array is sized and splits in
+ * halves, so parallel streams over it do use many threads.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of item
@@ -51,13 +57,18 @@ public final class IterableOf<X> implements Iterable<X> {
      */
     private final Scalar<? extends Iterator<? extends X>> itr;
 
+    /**
+     * The encapsulated spliterator.
+     */
+    private final Scalar<? extends Spliterator<? extends X>> split;
+
     /**
      * Ctor.
      * @param items The array
      */
     @SafeVarargs
     public IterableOf(final X... items) {
-        this(() -> new IteratorOf<>(items));
+        this(() -> new IteratorOf<>(items), () -> Arrays.spliterator(items));
     }
 
     /**
@@ -74,7 +85,18 @@ public final class IterableOf<X> implements Iterable<X> {
      * @param sclr The encapsulated iterator of x
      */
     public IterableOf(final Scalar<? extends Iterator<? extends X>> sclr) {
+        this(sclr, () -> Spliterators.spliteratorUnknownSize(sclr.value(), 0));
+    }
+
+    /**
+     * Ctor.
+     * @param sclr The encapsulated iterator of x
+     * @param spl The encapsulated spliterator of the same items
+     */
+    IterableOf(final Scalar<? extends Iterator<? extends X>> sclr,
+        final Scalar<? extends Spliterator<? extends X>> spl) {
         this.itr = sclr;
+        this.split = spl;
     }
 
     @SuppressWarnings("unchecked")
@@ -83,6 +105,12 @@ public final class IterableOf<X> implements Iterable<X> {
         return (Iterator<X>) new Unchecked<>(this.itr).value();
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Spliterator<X> spliterator() {
+        return (Spliterator<X>) new Unchecked<>(this.split).value();
+    }
+
     @Override
     @SuppressFBWarnings("EQ_UNUSUAL")
     @SuppressWarnings (value = "unchecked")
@@ -37,6 +37,13 @@ public final class IterableOfBooleans extends IterableEnvelope<Boolean> {
      * @param values Boolean values
      */
     public IterableOfBooleans(final boolean... values) {
-        super(new IterableOf<>(() -> new IteratorOfBooleans(values)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfBooleans(values),
+                () -> new IndexedSpliterator<>(
+                    values.length, index -> values[index]
+                )
+            )
+        );
     }
 }
@@ -64,6 +64,16 @@ public final class IterableOfBytes extends IterableEnvelope<Byte> {
      * @param bytes Bytes to iterate
      */
     public IterableOfBytes(final Bytes bytes) {
-        super(new IterableOf<>(() -> new IteratorOfBytes(bytes)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfBytes(bytes),
+                () -> {
+                    final byte[] array = bytes.asBytes();
+                    return new IndexedSpliterator<>(
+                        array.length, index -> array[index]
+                    );
+                }
+            )
+        );
     }
 }
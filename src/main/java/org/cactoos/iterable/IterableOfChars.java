@@ -54,6 +54,13 @@ public final class IterableOfChars extends IterableEnvelope<Character> {
      * @param chars Characters
      */
     public IterableOfChars(final char... chars) {
-        super(new IterableOf<>(() -> new IteratorOfChars(chars)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfChars(chars),
+                () -> new IndexedSpliterator<>(
+                    chars.length, index -> chars[index]
+                )
+            )
+        );
     }
 }
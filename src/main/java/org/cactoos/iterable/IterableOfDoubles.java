@@ -23,6 +23,7 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
 import org.cactoos.iterator.IteratorOfDoubles;
 
 /**
@@ -37,6 +38,11 @@ public final class IterableOfDoubles extends IterableEnvelope<Double> {
      * @param values Double values
      */
     public IterableOfDoubles(final double... values) {
-        super(new IterableOf<>(() -> new IteratorOfDoubles(values)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfDoubles(values),
+                () -> Arrays.spliterator(values)
+            )
+        );
     }
 }
@@ -37,6 +37,13 @@ public final class IterableOfFloats extends IterableEnvelope<Float> {
      * @param values Float values
      */
     public IterableOfFloats(final float... values) {
-        super(new IterableOf<>(() -> new IteratorOfFloats(values)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfFloats(values),
+                () -> new IndexedSpliterator<>(
+                    values.length, index -> values[index]
+                )
+            )
+        );
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
 import org.cactoos.iterator.IteratorOfInts;
 
 /**
@@ -37,6 +38,11 @@ public final class IterableOfInts extends IterableEnvelope<Integer> {
      * @param values Integer values
      */
     public IterableOfInts(final int... values) {
-        super(new IterableOf<>(() -> new IteratorOfInts(values)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfInts(values),
+                () -> Arrays.spliterator(values)
+            )
+        );
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
 import org.cactoos.iterator.IteratorOfLongs;
 
 /**
@@ -37,6 +38,11 @@ public final class IterableOfLongs extends IterableEnvelope<Long> {
      * @param values Long values
      */
     public IterableOfLongs(final long... values) {
-        super(new IterableOf<>(() -> new IteratorOfLongs(values)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfLongs(values),
+                () -> Arrays.spliterator(values)
+            )
+        );
     }
 }
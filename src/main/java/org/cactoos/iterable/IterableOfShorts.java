@@ -38,6 +38,13 @@ public final class IterableOfShorts extends IterableEnvelope<Short> {
      */
     @SuppressWarnings("PMD.AvoidUsingShortType")
     public IterableOfShorts(final short... values) {
-        super(new IterableOf<>(() -> new IteratorOfShorts(values)));
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfShorts(values),
+                () -> new IndexedSpliterator<>(
+                    values.length, index -> values[index]
+                )
+            )
+        );
     }
 }
@@ -58,7 +58,8 @@ public final class Mapped<Y> extends IterableEnvelope<Y> {
     ) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Mapped<>(fnc, src.iterator())
+                () -> new org.cactoos.iterator.Mapped<>(fnc, src.iterator()),
+                () -> new MappedSpliterator<>(fnc, src.spliterator())
             )
         );
     }
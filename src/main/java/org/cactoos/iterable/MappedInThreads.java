@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+
+/**
+ * Mapped iterable, which applies the func in threads.
+ *
+ * <p>The items come out in the order of the source. See
+ * {@link org.cactoos.iterator.MappedInThreads} for details.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of target item
+ * @since 0.57
+ */
+public final class MappedInThreads<Y> extends IterableEnvelope<Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> MappedInThreads(
+        final Func<? super X, ? extends Y> fnc, final Iterable<? extends X> src
+    ) {
+        this(Runtime.getRuntime().availableProcessors(), fnc, src);
+    }
+
+    /**
+     * Ctor.
+     * @param threads Maximum number of items mapped at the same time
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> MappedInThreads(
+        final int threads,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MappedInThreads<>(
+                    threads, fnc, src.iterator()
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc The service
+     * @param window Maximum number of items mapped ahead
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> MappedInThreads(
+        final ExecutorService svc,
+        final int window,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MappedInThreads<>(
+                    svc, window, fnc, src.iterator()
+                )
+            )
+        );
+    }
+}
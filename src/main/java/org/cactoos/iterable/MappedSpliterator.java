@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Mapped spliterator.
+ *
+ * <p>It splits the same way the source does and keeps its size.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of source item
+ * @param <Y> Type of target item
+ * @since 0.57
+ */
+final class MappedSpliterator<X, Y> implements Spliterator<Y> {
+
+    /**
+     * The func.
+     */
+    private final UncheckedFunc<X, Y> func;
+
+    /**
+     * The source.
+     */
+    private final Spliterator<? extends X> origin;
+
+    /**
+     * Ctor.
+     * @param func The func
+     * @param origin The source
+     */
+    MappedSpliterator(final Func<? super X, ? extends Y> func,
+        final Spliterator<? extends X> origin) {
+        this(new UncheckedFunc<X, Y>(func::apply), origin);
+    }
+
+    /**
+     * Ctor.
+     * @param func The func
+     * @param origin The source
+     */
+    private MappedSpliterator(final UncheckedFunc<X, Y> func,
+        final Spliterator<? extends X> origin) {
+        this.func = func;
+        this.origin = origin;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Y> action) {
+        return this.origin.tryAdvance(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public Spliterator<Y> trySplit() {
+        final Spliterator<? extends X> prefix = this.origin.trySplit();
+        Spliterator<Y> mapped = null;
+        if (prefix != null) {
+            mapped = new MappedSpliterator<>(this.func, prefix);
+        }
+        return mapped;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics()
+            & (Spliterator.ORDERED | Spliterator.SIZED
+            | Spliterator.SUBSIZED);
+    }
+}
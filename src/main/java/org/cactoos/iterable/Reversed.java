@@ -23,6 +23,10 @@
  */
 package org.cactoos.iterable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Reverse iterable.
  *
@@ -52,6 +56,16 @@ public final class Reversed<X> extends IterableEnvelope<X> {
      * @since 0.23
      */
     public Reversed(final Iterable<? extends X> src) {
-        super(new IterableOf<>(() -> new org.cactoos.iterator.Reversed<>(src.iterator())));
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.Reversed<>(src.iterator()),
+                () -> {
+                    final List<X> list = new ArrayList<>(0);
+                    src.forEach(list::add);
+                    Collections.reverse(list);
+                    return list.spliterator();
+                }
+            )
+        );
     }
 }
@@ -54,6 +54,9 @@ public final class Skipped<T> extends IterableEnvelope<T> {
                 () -> new org.cactoos.iterator.Skipped<>(
                     skip,
                     iterable.iterator()
+                ),
+                () -> new SlicedSpliterator<>(
+                    skip, Long.MAX_VALUE, iterable.spliterator()
                 )
             )
         );
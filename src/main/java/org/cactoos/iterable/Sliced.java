@@ -58,6 +58,9 @@ public final class Sliced<T> extends IterableEnvelope<T>  {
                     start,
                     count,
                     iterable.iterator()
+                ),
+                () -> new SlicedSpliterator<>(
+                    start, count, iterable.spliterator()
                 )
             )
         );
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a slice of the source.
+ *
+ * <p>If the source knows the exact sizes of its parts, the slice splits
+ * together with it, otherwise it splits in batches, the way a spliterator
+ * of an iterator does.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @since 0.57
+ */
+final class SlicedSpliterator<X>
+    extends Spliterators.AbstractSpliterator<X> {
+
+    /**
+     * The source.
+     */
+    private final Spliterator<X> origin;
+
+    /**
+     * Number of items to skip yet.
+     */
+    private long skip;
+
+    /**
+     * Number of items to return yet.
+     */
+    private long limit;
+
+    /**
+     * Ctor.
+     * @param skip Number of items to skip
+     * @param limit Maximum number of items to return
+     * @param origin The source
+     */
+    @SuppressWarnings("unchecked")
+    SlicedSpliterator(final long skip, final long limit,
+        final Spliterator<? extends X> origin) {
+        super(Long.MAX_VALUE, 0);
+        this.origin = (Spliterator<X>) origin;
+        this.skip = Math.max(0L, skip);
+        this.limit = Math.max(0L, limit);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super X> action) {
+        while (this.skip > 0L && this.origin.tryAdvance(item -> { })) {
+            --this.skip;
+        }
+        boolean more = false;
+        if (this.limit > 0L) {
+            more = this.origin.tryAdvance(action);
+            if (more) {
+                --this.limit;
+            }
+        }
+        return more;
+    }
+
+    @Override
+    public Spliterator<X> trySplit() {
+        Spliterator<X> sliced = null;
+        if (!this.origin.hasCharacteristics(Spliterator.SUBSIZED)) {
+            sliced = super.trySplit();
+        } else if (this.limit > 0L) {
+            final Spliterator<X> prefix = this.origin.trySplit();
+            if (prefix != null) {
+                final long size = prefix.getExactSizeIfKnown();
+                final long head = Math.min(this.skip, size);
+                final long taken = Math.min(this.limit, size - head);
+                sliced = new SlicedSpliterator<>(head, taken, prefix);
+                this.skip -= head;
+                this.limit -= taken;
+            }
+        }
+        return sliced;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(
+            this.limit,
+            Math.max(0L, this.origin.estimateSize() - this.skip)
+        );
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics()
+            & (Spliterator.ORDERED | Spliterator.SIZED
+            | Spliterator.SUBSIZED | Spliterator.IMMUTABLE);
+    }
+}
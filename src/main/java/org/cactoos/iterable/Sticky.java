@@ -23,12 +23,17 @@
  */
 package org.cactoos.iterable;
 
-import org.cactoos.list.ListOf;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Scalar;
 import org.cactoos.scalar.Mapped;
 
 /**
  * Iterable that returns the same set of elements, always.
  *
+ * <p>Once the elements are calculated, its {@link #spliterator()} is
+ * sized and splits in halves.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of item
@@ -50,16 +55,27 @@ public final class Sticky<X> extends IterableEnvelope<X> {
      * @param iterable The iterable
      */
     public Sticky(final Iterable<? extends X> iterable) {
+        this(
+            new org.cactoos.scalar.Sticky<>(
+                () -> {
+                    final List<X> list = new ArrayList<>(0);
+                    iterable.forEach(list::add);
+                    return list;
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param list The list of items, calculated once
+     */
+    private Sticky(final Scalar<List<X>> list) {
         super(
             new IterableOf<>(
-                new Mapped<>(
-                    Iterable::iterator,
-                    new org.cactoos.scalar.Sticky<>(
-                        () -> new ListOf<>(iterable)
-                    )
-                )
+                new Mapped<>(List::iterator, list),
+                new Mapped<>(List::spliterator, list)
             )
         );
     }
-
 }
@@ -24,6 +24,7 @@
 package org.cactoos.iterable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import org.cactoos.iterator.Mapped;
 
 /**
@@ -89,4 +90,12 @@ public final class Synced<X> implements Iterable<X> {
             return (Iterator<X>) this.origin.iterator();
         }
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Spliterator<X> spliterator() {
+        synchronized (this.lock) {
+            return (Spliterator<X>) this.origin.spliterator();
+        }
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary max-heap, which keeps the given number of the lowest elements.
+ *
+ * <p>Elements are ordered by the comparator and then by the order in
+ * which they were added, so equal elements keep their order.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.57
+ */
+final class BoundedHeap<T> {
+
+    /**
+     * Initial capacity.
+     */
+    private static final int INITIAL = 16;
+
+    /**
+     * The comparator.
+     */
+    private final Comparator<? super T> cmp;
+
+    /**
+     * Maximum number of elements.
+     */
+    private final int limit;
+
+    /**
+     * Elements.
+     */
+    private Object[] items;
+
+    /**
+     * Sequence numbers of the elements.
+     */
+    private long[] seqs;
+
+    /**
+     * Number of elements in the heap.
+     */
+    private int size;
+
+    /**
+     * Number of elements ever added.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param limit Maximum number of elements, positive
+     */
+    BoundedHeap(final Comparator<? super T> cmp, final int limit) {
+        this.cmp = cmp;
+        this.limit = limit;
+        this.items = new Object[Math.min(limit, BoundedHeap.INITIAL)];
+        this.seqs = new long[this.items.length];
+    }
+
+    /**
+     * Add the element, if it's lower than the highest one in the heap
+     * or the heap is not full yet.
+     * @param item The element
+     */
+    @SuppressWarnings("unchecked")
+    void add(final T item) {
+        final long seq = this.count;
+        ++this.count;
+        if (this.size < this.limit) {
+            if (this.size == this.items.length) {
+                final int length = (int) Math.min(2L * this.size, this.limit);
+                this.items = Arrays.copyOf(this.items, length);
+                this.seqs = Arrays.copyOf(this.seqs, length);
+            }
+            this.items[this.size] = item;
+            this.seqs[this.size] = seq;
+            this.up(this.size);
+            ++this.size;
+        } else if (this.cmp.compare(item, (T) this.items[0]) < 0) {
+            this.items[0] = item;
+            this.seqs[0] = seq;
+            this.down(0);
+        }
+    }
+
+    /**
+     * Remove all elements from the heap, in sorted order.
+     * @return Sorted elements
+     */
+    @SuppressWarnings("unchecked")
+    List<T> sorted() {
+        final Object[] sorted = new Object[this.size];
+        while (this.size > 0) {
+            --this.size;
+            sorted[this.size] = this.items[0];
+            this.items[0] = this.items[this.size];
+            this.seqs[0] = this.seqs[this.size];
+            this.items[this.size] = null;
+            this.down(0);
+        }
+        return (List<T>) Arrays.asList(sorted);
+    }
+
+    /**
+     * Move the element up to its place.
+     * @param pos Position of the element
+     */
+    private void up(final int pos) {
+        int child = pos;
+        while (child > 0) {
+            final int parent = (child - 1) / 2;
+            if (!this.higher(child, parent)) {
+                break;
+            }
+            this.swap(child, parent);
+            child = parent;
+        }
+    }
+
+    /**
+     * Move the element down to its place.
+     * @param pos Position of the element
+     */
+    private void down(final int pos) {
+        int parent = pos;
+        while (true) {
+            final int left = 2 * parent + 1;
+            if (left >= this.size) {
+                break;
+            }
+            int child = left;
+            if (left + 1 < this.size && this.higher(left + 1, left)) {
+                child = left + 1;
+            }
+            if (!this.higher(child, parent)) {
+                break;
+            }
+            this.swap(child, parent);
+            parent = child;
+        }
+    }
+
+    /**
+     * Is the first element higher than the second one?
+     * @param first Position of the first element
+     * @param second Position of the second element
+     * @return TRUE if higher
+     */
+    @SuppressWarnings("unchecked")
+    private boolean higher(final int first, final int second) {
+        int res = this.cmp.compare(
+            (T) this.items[first], (T) this.items[second]
+        );
+        if (res == 0) {
+            res = Long.compare(this.seqs[first], this.seqs[second]);
+        }
+        return res > 0;
+    }
+
+    /**
+     * Swap two elements.
+     * @param first Position of the first element
+     * @param second Position of the second element
+     */
+    private void swap(final int first, final int second) {
+        final Object item = this.items[first];
+        this.items[first] = this.items[second];
+        this.items[second] = item;
+        final long seq = this.seqs[first];
+        this.seqs[first] = this.seqs[second];
+        this.seqs[second] = seq;
+    }
+}
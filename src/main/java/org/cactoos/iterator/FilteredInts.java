@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * Filtered iterator of {@code int} values, which doesn't box them.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Filtered
+ * @since 0.57
+ */
+public final class FilteredInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * Iterator.
+     */
+    private final PrimitiveIterator.OfInt iterator;
+
+    /**
+     * Predicate.
+     */
+    private final IntPredicate func;
+
+    /**
+     * The next value that fits the predicate.
+     */
+    private int buffer;
+
+    /**
+     * Is there a value in the buffer?
+     */
+    private boolean full;
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source iterator
+     */
+    public FilteredInts(final IntPredicate fnc,
+        final PrimitiveIterator.OfInt src) {
+        this.iterator = src;
+        this.func = fnc;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.full && this.iterator.hasNext()) {
+            final int value = this.iterator.nextInt();
+            if (this.func.test(value)) {
+                this.buffer = value;
+                this.full = true;
+            }
+        }
+        return this.full;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.full = false;
+        return this.buffer;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * First elements of sorted iterator.
+ *
+ * <p>It's the same as {@code new HeadOf<>(num, new Sorted<>(cmp, src))},
+ * but it keeps only {@code num} elements in a bounded binary heap while
+ * reading the source, so it takes O(n log num) time and O(num) memory
+ * instead of sorting the whole source. The order of equal elements is
+ * kept, like in {@link Sorted}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @see HeadOf
+ * @see Sorted
+ * @since 0.57
+ */
+public final class HeadOfSorted<T> implements Iterator<T> {
+
+    /**
+     * Sorted head.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param num Number of head elements
+     * @param iterator The underlying iterator
+     */
+    @SuppressWarnings("unchecked")
+    public HeadOfSorted(final int num, final Iterator<? extends T> iterator) {
+        this(num, (Comparator<T>) Comparator.naturalOrder(), iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param num Number of head elements
+     * @param comparator The comparator
+     * @param iterator The underlying iterator
+     */
+    public HeadOfSorted(final int num, final Comparator<? super T> comparator,
+        final Iterator<? extends T> iterator) {
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                () -> HeadOfSorted.head(num, comparator, iterator)
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+
+    /**
+     * Find the head.
+     * @param num Number of head elements
+     * @param cmp The comparator
+     * @param source The source
+     * @param <T> Element type
+     * @return Sorted head
+     */
+    private static <T> Iterator<T> head(final int num,
+        final Comparator<? super T> cmp, final Iterator<? extends T> source) {
+        final Iterator<T> result;
+        if (num > 0) {
+            final BoundedHeap<T> heap = new BoundedHeap<>(cmp, num);
+            while (source.hasNext()) {
+                heap.add(source.next());
+            }
+            result = heap.sorted().iterator();
+        } else {
+            result = Collections.emptyIterator();
+        }
+        return result;
+    }
+}
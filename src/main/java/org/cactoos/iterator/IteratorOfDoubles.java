@@ -23,18 +23,18 @@
  */
 package org.cactoos.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * Iterator that returns a set of double values.
+ * Iterator that returns a set of double values, boxing them into
+ * {@link Double}s only in {@link #next()}.
  *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.34
  */
-public final class IteratorOfDoubles implements Iterator<Double> {
+public final class IteratorOfDoubles implements PrimitiveIterator.OfDouble {
 
     /**
      * The list of items to iterate.
@@ -44,7 +44,7 @@ public final class IteratorOfDoubles implements Iterator<Double> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -52,21 +52,20 @@ public final class IteratorOfDoubles implements Iterator<Double> {
      */
     public IteratorOfDoubles(final double... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Double next() {
+    public double nextDouble() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        return this.items[this.position++];
     }
 }
@@ -23,18 +23,18 @@
  */
 package org.cactoos.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * {@link Iterator} that returns the {@code long}s as {@link Long}s.
+ * {@link PrimitiveIterator.OfLong} that returns the {@code long}s, boxing
+ * them into {@link Long}s only in {@link #next()}.
  *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @since 0.34
  */
-public final class IteratorOfLongs implements Iterator<Long> {
+public final class IteratorOfLongs implements PrimitiveIterator.OfLong {
 
     /**
      * The list of items to iterate.
@@ -44,7 +44,7 @@ public final class IteratorOfLongs implements Iterator<Long> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -52,21 +52,20 @@ public final class IteratorOfLongs implements Iterator<Long> {
      */
     public IteratorOfLongs(final long... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Long next() {
+    public long nextLong() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        return this.items[this.position++];
     }
 }
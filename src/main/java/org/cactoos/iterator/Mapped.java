@@ -62,9 +62,7 @@ public final class Mapped<Y> extends IteratorEnvelope<Y> {
                 public Y next() {
                     if (this.hasNext()) {
                         return new Unchecked<>(
-                            new org.cactoos.scalar.Mapped<>(
-                                func, iterator::next
-                            )
+                            () -> func.apply(iterator.next())
                         ).value();
                     }
                     throw new NoSuchElementException();
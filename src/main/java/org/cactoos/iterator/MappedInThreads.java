@@ -0,0 +1,262 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Mapped iterator, which applies the func in threads.
+ *
+ * <p>Not more than the given number of items, by default as many as
+ * there are processors, are mapped at the same time, ahead of the
+ * consumer. The items come out in the order of the source, no matter
+ * in what order they are mapped. The source is not read further than
+ * that, until the consumer takes the mapped items.</p>
+ *
+ * <p>If the func fails, the exception is thrown from {@link #next()},
+ * the same way {@link Mapped} does, and the items mapped ahead are
+ * cancelled.</p>
+ *
+ * <p>If the service is not given, the iterator makes one, with not more
+ * daemon threads than items mapped at the same time, and shuts it down
+ * as soon as the source ends or the func fails. The threads of an
+ * iterator left before its end stop after a second without work, so it
+ * doesn't keep the JVM running.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of target item
+ * @since 0.57
+ */
+public final class MappedInThreads<Y> implements Iterator<Y> {
+
+    /**
+     * The tasks, one per source item.
+     */
+    private final Iterator<? extends Scalar<? extends Y>> tasks;
+
+    /**
+     * The service, made on the first request.
+     */
+    private final Unchecked<? extends ExecutorService> service;
+
+    /**
+     * Shut the service down when the source ends or the func fails.
+     */
+    private final boolean shut;
+
+    /**
+     * Maximum number of items mapped ahead.
+     */
+    private final int window;
+
+    /**
+     * Items being mapped, in the order of the source.
+     */
+    private final Queue<Future<? extends Y>> ahead;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param iterator Source iterator
+     * @param <X> Type of item
+     */
+    public <X> MappedInThreads(
+        final Func<? super X, ? extends Y> func,
+        final Iterator<? extends X> iterator
+    ) {
+        this(Runtime.getRuntime().availableProcessors(), func, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param threads Maximum number of items mapped at the same time
+     * @param func Func
+     * @param iterator Source iterator
+     * @param <X> Type of item
+     */
+    public <X> MappedInThreads(
+        final int threads,
+        final Func<? super X, ? extends Y> func,
+        final Iterator<? extends X> iterator
+    ) {
+        this(
+            () -> MappedInThreads.pool(threads), true, threads,
+            new Mapped<>(
+                item -> () -> func.apply(item),
+                iterator
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc The service
+     * @param window Maximum number of items mapped ahead
+     * @param func Func
+     * @param iterator Source iterator
+     * @param <X> Type of item
+     */
+    public <X> MappedInThreads(
+        final ExecutorService svc,
+        final int window,
+        final Func<? super X, ? extends Y> func,
+        final Iterator<? extends X> iterator
+    ) {
+        this(
+            () -> svc, false, window,
+            new Mapped<>(
+                item -> () -> func.apply(item),
+                iterator
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc The service
+     * @param sht Shut the service down when the source ends or the func
+     *  fails
+     * @param window Maximum number of items mapped ahead
+     * @param tasks The tasks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private MappedInThreads(
+        final Scalar<? extends ExecutorService> svc, final boolean sht,
+        final int window, final Iterator<? extends Scalar<? extends Y>> tasks
+    ) {
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                "The number of items mapped ahead must be positive"
+            );
+        }
+        this.service = new Unchecked<>(new Sticky<>(svc));
+        this.shut = sht;
+        this.window = window;
+        this.tasks = tasks;
+        this.ahead = new LinkedList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        this.fill();
+        return !this.ahead.isEmpty();
+    }
+
+    @Override
+    public Y next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Future<? extends Y> head = this.ahead.remove();
+        this.fill();
+        try {
+            return head.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.cancel();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            this.cancel();
+            return MappedInThreads.rethrow(ex.getCause());
+        }
+    }
+
+    /**
+     * Start mapping the next items, until the window is full.
+     */
+    private void fill() {
+        while (this.ahead.size() < this.window && this.tasks.hasNext()) {
+            final Scalar<? extends Y> task = this.tasks.next();
+            this.ahead.add(this.service.value().submit(task::value));
+        }
+        if (this.shut && !this.ahead.isEmpty() && !this.tasks.hasNext()) {
+            this.service.value().shutdown();
+        }
+    }
+
+    /**
+     * Cancel the items mapped ahead.
+     */
+    private void cancel() {
+        for (final Future<? extends Y> future : this.ahead) {
+            future.cancel(true);
+        }
+        this.ahead.clear();
+        if (this.shut) {
+            this.service.value().shutdownNow();
+        }
+    }
+
+    /**
+     * Make a service for one iterator, with daemon threads, which stop
+     * after a second without work.
+     * @param threads Maximum number of threads
+     * @return The service
+     */
+    private static ExecutorService pool(final int threads) {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            threads, threads,
+            1L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "cactoos-mapped");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Throw the failure of the func, the same way {@link Mapped} does.
+     * @param cause The failure
+     * @param <T> Type of the result
+     * @return Never returns
+     */
+    private static <T> T rethrow(final Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new Unchecked<T>(
+            () -> {
+                throw (Exception) cause;
+            }
+        ).value();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Merge of sorted iterators into one sorted iterator.
+ *
+ * <p>Each of the iterators must already be sorted by the comparator.
+ * Only their current heads are kept in memory, in a binary heap, so
+ * the merge takes O(log k) time per element for k iterators. Equal
+ * elements are returned in the order of the iterators. The iterators
+ * are not touched until the first request.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @see Sorted
+ * @since 0.57
+ */
+public final class Merged<T> implements Iterator<T> {
+
+    /**
+     * Sorted iterators to merge.
+     */
+    private final Iterable<? extends Iterator<? extends T>> items;
+
+    /**
+     * Iterators, taken from the items on the first request.
+     */
+    private final List<Iterator<? extends T>> iters;
+
+    /**
+     * Current heads of the iterators.
+     */
+    private final List<T> heads;
+
+    /**
+     * Indexes of non-empty iterators, ordered by their heads.
+     */
+    private final Queue<Integer> queue;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param items Sorted iterators
+     */
+    @SafeVarargs
+    public Merged(final Comparator<? super T> cmp,
+        final Iterator<? extends T>... items) {
+        this(cmp, new IterableOf<>(items));
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param items Sorted iterators
+     */
+    public Merged(final Comparator<? super T> cmp,
+        final Iterable<? extends Iterator<? extends T>> items) {
+        this.items = items;
+        this.iters = new ArrayList<>();
+        this.heads = new ArrayList<>();
+        this.queue = new PriorityQueue<>(
+            (left, right) -> {
+                int res = cmp.compare(
+                    this.heads.get(left), this.heads.get(right)
+                );
+                if (res == 0) {
+                    res = Integer.compare(left, right);
+                }
+                return res;
+            }
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.iters.isEmpty()) {
+            for (final Iterator<? extends T> item : this.items) {
+                this.iters.add(item);
+                this.heads.add(null);
+                this.advance(this.iters.size() - 1);
+            }
+        }
+        return !this.queue.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        final int idx = this.queue.poll();
+        final T head = this.heads.get(idx);
+        this.advance(idx);
+        return head;
+    }
+
+    /**
+     * Take the next head from the iterator, if it has one.
+     * @param idx Index of the iterator
+     */
+    private void advance(final int idx) {
+        final Iterator<? extends T> iter = this.iters.get(idx);
+        if (iter.hasNext()) {
+            this.heads.set(idx, iter.next());
+            this.queue.add(idx);
+        } else {
+            this.heads.set(idx, null);
+        }
+    }
+}
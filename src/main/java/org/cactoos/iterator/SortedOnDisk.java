@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Sorted iterator, which doesn't keep more than the given number
+ * of elements in memory.
+ *
+ * <p>The source is read in runs of at most {@code budget} elements.
+ * Each run is sorted in an array, in parallel, and, unless the whole
+ * source fits into one run, all runs but the last one are serialized
+ * into temporary files. The runs are then merged lazily by
+ * {@link Merged}, so only the last run and the current element of each
+ * spilled run stay in memory. Each temporary file is deleted when its
+ * run is read to the end, and all of them are deleted when the merge
+ * ends or fails. Files of an iterator abandoned before its end are
+ * deleted when the JVM exits.</p>
+ *
+ * <p>The sort is stable.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @see Sorted
+ * @since 0.57
+ */
+public final class SortedOnDisk<T extends Serializable> implements Iterator<T> {
+
+    /**
+     * Default maximum number of elements in memory.
+     */
+    private static final int BUDGET = 1 << 20;
+
+    /**
+     * Initial size of the run buffer.
+     */
+    private static final int INITIAL = 16;
+
+    /**
+     * Number of written elements, after which the stream forgets them.
+     */
+    private static final int RESET = 1024;
+
+    /**
+     * Sorted one.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     * @param comparator The comparator
+     * @param iterator The underlying iterator
+     */
+    public SortedOnDisk(final Comparator<? super T> comparator,
+        final Iterator<? extends T> iterator) {
+        this(comparator, SortedOnDisk.BUDGET, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param comparator The comparator
+     * @param budget Maximum number of elements to keep in memory
+     * @param iterator The underlying iterator
+     */
+    public SortedOnDisk(final Comparator<? super T> comparator,
+        final int budget, final Iterator<? extends T> iterator) {
+        if (budget < 1) {
+            throw new IllegalArgumentException(
+                String.format("The budget must be positive: %d", budget)
+            );
+        }
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                () -> SortedOnDisk.sorted(comparator, budget, iterator)
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+
+    /**
+     * Sort the source.
+     * @param cmp The comparator
+     * @param budget Maximum number of elements to keep in memory
+     * @param source The source
+     * @param <T> Element type
+     * @return Sorted iterator
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> Iterator<T> sorted(
+        final Comparator<? super T> cmp, final int budget,
+        final Iterator<? extends T> source) throws Exception {
+        final List<Spilled<T>> spilled = new ArrayList<>();
+        boolean failed = true;
+        try {
+            T[] run = (T[]) new Serializable[
+                Math.min(budget, SortedOnDisk.INITIAL)
+            ];
+            int size = 0;
+            while (source.hasNext()) {
+                if (size == run.length) {
+                    if (run.length < budget) {
+                        run = Arrays.copyOf(
+                            run, (int) Math.min(2L * run.length, budget)
+                        );
+                    } else {
+                        Arrays.parallelSort(run, 0, size, cmp);
+                        spilled.add(SortedOnDisk.spill(run, size));
+                        size = 0;
+                    }
+                }
+                run[size] = source.next();
+                ++size;
+            }
+            Arrays.parallelSort(run, 0, size, cmp);
+            final Iterator<T> last =
+                Arrays.asList(run).subList(0, size).iterator();
+            final Iterator<T> result;
+            if (spilled.isEmpty()) {
+                result = last;
+            } else {
+                final List<Iterator<? extends T>> runs =
+                    new ArrayList<>(spilled);
+                runs.add(last);
+                result = new SpilledMerge<>(new Merged<>(cmp, runs), spilled);
+            }
+            failed = false;
+            return result;
+        } finally {
+            if (failed) {
+                for (final Spilled<T> run : spilled) {
+                    run.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the sorted run into a temporary file.
+     * @param run The run
+     * @param size Number of elements in the run
+     * @param <T> Element type
+     * @return Iterator reading the run back
+     * @throws Exception If fails
+     */
+    private static <T> Spilled<T> spill(final T[] run, final int size)
+        throws Exception {
+        final Path file = new TempFile("cactoos", ".run").value();
+        file.toFile().deleteOnExit();
+        boolean failed = true;
+        try (ObjectOutputStream out = new ObjectOutputStream(
+            new BufferedOutputStream(new OutputTo(file).stream())
+        )) {
+            for (int idx = 0; idx < size; ++idx) {
+                out.writeObject(run[idx]);
+                run[idx] = null;
+                if (idx % SortedOnDisk.RESET == 0) {
+                    out.reset();
+                }
+            }
+            failed = false;
+        } finally {
+            if (failed) {
+                Files.deleteIfExists(file);
+            }
+        }
+        return new Spilled<>(file, size);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Sorted run of {@link SortedOnDisk}, read back from its temporary file.
+ *
+ * <p>The file is opened on the first request and deleted as soon
+ * as the last element is read, or when reading fails. It can also be
+ * deleted earlier by {@link #delete()}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.57
+ */
+final class Spilled<T> implements Iterator<T> {
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Number of elements left.
+     */
+    private int left;
+
+    /**
+     * The stream, opened on the first request.
+     */
+    private ObjectInputStream stream;
+
+    /**
+     * Ctor.
+     * @param file The file with serialized elements
+     * @param size Number of elements in the file
+     */
+    Spilled(final Path file, final int size) {
+        this.file = file;
+        this.left = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.left > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        boolean failed = true;
+        try {
+            final T item = new Unchecked<>(
+                () -> {
+                    if (this.stream == null) {
+                        this.stream = new ObjectInputStream(
+                            new BufferedInputStream(
+                                new InputOf(this.file).stream()
+                            )
+                        );
+                    }
+                    return (T) this.stream.readObject();
+                }
+            ).value();
+            --this.left;
+            failed = false;
+            return item;
+        } finally {
+            if (failed || this.left == 0) {
+                this.delete();
+            }
+        }
+    }
+
+    /**
+     * Close the file and delete it, leaving no more elements.
+     */
+    void delete() {
+        this.left = 0;
+        try {
+            if (this.stream != null) {
+                this.stream.close();
+            }
+            Files.deleteIfExists(this.file);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+
+/**
+ * Merge of the runs of {@link SortedOnDisk}, which deletes all spilled
+ * runs when it ends or fails.
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.57
+ */
+final class SpilledMerge<T> implements Iterator<T> {
+
+    /**
+     * The merge.
+     */
+    private final Iterator<T> origin;
+
+    /**
+     * Spilled runs.
+     */
+    private final Iterable<Spilled<T>> runs;
+
+    /**
+     * Ctor.
+     * @param origin The merge
+     * @param runs Spilled runs
+     */
+    SpilledMerge(final Iterator<T> origin, final Iterable<Spilled<T>> runs) {
+        this.origin = origin;
+        this.runs = runs;
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean done = true;
+        try {
+            done = !this.origin.hasNext();
+            return !done;
+        } finally {
+            if (done) {
+                this.delete();
+            }
+        }
+    }
+
+    @Override
+    public T next() {
+        boolean failed = true;
+        try {
+            final T item = this.origin.next();
+            failed = false;
+            return item;
+        } finally {
+            if (failed) {
+                this.delete();
+            }
+        }
+    }
+
+    /**
+     * Delete all spilled runs.
+     */
+    private void delete() {
+        for (final Spilled<T> run : this.runs) {
+            run.delete();
+        }
+    }
+}
@@ -23,37 +23,91 @@
  */
 package org.cactoos.iterator;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
-import org.cactoos.iterable.HeadOf;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Reversed;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Tail portion of the iterator.
  *
+ * <p>The source is read on the first request, keeping only the last
+ * {@code num} elements in a circular buffer, so the memory doesn't
+ * depend on the length of the source.</p>
+ *
  * <p>
  * There is no thread-safety guarantee.
  * </p>
  * @param <T> Element type
  * @since 0.31
  */
-public final class TailOf<T> extends IteratorEnvelope<T> {
+public final class TailOf<T> implements Iterator<T> {
+
+    /**
+     * Initial capacity of the buffer.
+     */
+    private static final int INITIAL = 16;
+
+    /**
+     * The tail.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
     /**
      * Ctor.
      * @param num Number of tail elements
      * @param iterator Decorated iterator
      */
-    @SuppressWarnings({ "unchecked", "cast" })
     public TailOf(final int num, final Iterator<? extends T> iterator) {
-        super(
-            (Iterator<T>) new Reversed<>(
-                new HeadOf<>(
-                    num,
-                    new Reversed<>(
-                        new IterableOf<>(iterator)
-                    )
-                )
-            ).iterator()
+        this.scalar = new Unchecked<>(
+            new Sticky<>(() -> TailOf.tail(num, iterator))
         );
     }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+
+    /**
+     * Read the source, keeping only its last elements.
+     * @param num Number of tail elements
+     * @param source The source
+     * @param <T> Element type
+     * @return The tail
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Iterator<T> tail(final int num,
+        final Iterator<? extends T> source) {
+        final Iterator<T> result;
+        if (num > 0) {
+            Object[] ring = new Object[Math.min(num, TailOf.INITIAL)];
+            long count = 0L;
+            while (source.hasNext()) {
+                if (count == ring.length && count < num) {
+                    ring = Arrays.copyOf(
+                        ring, (int) Math.min(2L * ring.length, num)
+                    );
+                }
+                ring[(int) (count % ring.length)] = source.next();
+                ++count;
+            }
+            final int size = (int) Math.min(count, num);
+            final int start = (int) ((count - size) % ring.length);
+            final Object[] tail = new Object[size];
+            final int first = Math.min(size, ring.length - start);
+            System.arraycopy(ring, start, tail, 0, first);
+            System.arraycopy(ring, 0, tail, first, size - first);
+            result = (Iterator<T>) Arrays.asList(tail).iterator();
+        } else {
+            result = Collections.emptyIterator();
+        }
+        return result;
+    }
 }
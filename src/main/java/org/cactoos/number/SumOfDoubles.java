@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import org.cactoos.scalar.FoldedDoubles;
+
+/**
+ * Sum of {@code double} values, calculated without boxing them.
+ *
+ * <p>Here is how you can use it to summarize numbers:</p>
+ *
+ * <pre>
+ * double sum = new SumOfDoubles(1, 2, 3, 4).doubleValue();
+ * double sum = new SumOfDoubles(new IterableOfDoubles(1, 2, 3)).doubleValue();
+ * </pre>
+ *
+ * <p>The sum is calculated in {@code double} arithmetic, use
+ * {@link SumOf} if it may overflow.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+public final class SumOfDoubles extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -6302419853711840385L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfDoubles(final double... src) {
+        super(new NumberOfScalars(new FoldedDoubles(0.0d, Double::sum, src)));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public SumOfDoubles(final Iterable<Double> src) {
+        super(new NumberOfScalars(new FoldedDoubles(0.0d, Double::sum, src)));
+    }
+}
@@ -23,7 +23,9 @@
  */
 package org.cactoos.proc;
 
+import org.cactoos.Func;
 import org.cactoos.Proc;
+import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.scalar.AndInThreads;
 
@@ -46,6 +48,11 @@ import org.cactoos.scalar.AndInThreads;
  *    // Order of printing can be random.
  * }
  * <p>
+ * Not more than the given number of elements are processed at the same
+ * time, or, if the number is not given, as many as {@link AndInThreads}
+ * runs by default.
+ * </p>
+ * <p>
  * There is no thread-safety guarantee.
  *
  * @param <X> The type to iterate over
@@ -54,9 +61,9 @@ import org.cactoos.scalar.AndInThreads;
 public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
 
     /**
-     * The proc.
+     * Conjunction of the proc over the input, in threads.
      */
-    private final Proc<X> proc;
+    private final Func<Iterable<X>, Scalar<Boolean>> and;
 
     /**
      * Ctor.
@@ -64,14 +71,40 @@ public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
      * @param proc The proc to execute
      */
     public ForEachInThreads(final Proc<X> proc) {
-        this.proc = proc;
+        this(
+            (Iterable<X> input) -> new AndInThreads(
+                new FuncOf<>(proc, true), input
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param threads Maximum number of elements processed at the same time
+     * @param proc The proc to execute
+     * @since 0.57
+     */
+    public ForEachInThreads(final int threads, final Proc<X> proc) {
+        this(
+            (Iterable<X> input) -> new AndInThreads(
+                threads, new FuncOf<>(proc, true), input
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param and Conjunction of the proc over the input, in threads
+     */
+    private ForEachInThreads(final Func<Iterable<X>, Scalar<Boolean>> and) {
+        this.and = and;
     }
 
     @Override
     public void exec(final Iterable<X> input) throws Exception {
-        new AndInThreads(
-            new FuncOf<>(this.proc, true), input
-        ).value();
+        this.and.apply(input).value();
     }
 
 }
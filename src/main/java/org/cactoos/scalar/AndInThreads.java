@@ -23,25 +23,29 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Proc;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.text.FormattedText;
 
 /**
  * Logical conjunction, in multiple threads.
  *
  * <p>The usage is same as for {@link And}</p>
  *
+ * <p>Not more than the given number of scalars run at the same time,
+ * if the number is given. As soon as one of them
+ * returns {@code false}, the rest are cancelled. If the service is not
+ * given, a new one is created for every calculation and shut down
+ * after it. Without the number of threads and the service, not more
+ * scalars than processors, but at least two, run at the same time, each
+ * in its own thread, virtual on JDK 21 and later, see
+ * {@link ThreadPerTask}.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -57,19 +61,9 @@ import org.cactoos.text.FormattedText;
 public final class AndInThreads implements Scalar<Boolean> {
 
     /**
-     * The service.
-     */
-    private final ExecutorService service;
-
-    /**
-     * The iterator.
+     * The origin.
      */
-    private final Iterable<? extends Scalar<Boolean>> iterable;
-
-    /**
-     * Shut down the service when it's done.
-     */
-    private final boolean shut;
+    private final Scalar<Boolean> origin;
 
     /**
      * Ctor.
@@ -112,7 +106,48 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(
+            new InThreads(
+                new ThreadPerTask(),
+                true, InThreads.THREADS, src, false
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param threads Maximum number of scalars running at the same time
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     * @since 0.57
+     */
+    public <X> AndInThreads(final int threads,
+        final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src) {
+        this(
+            threads,
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param threads Maximum number of scalars running at the same time
+     * @param src The iterable
+     * @since 0.57
+     */
+    public AndInThreads(final int threads,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(
+            new InThreads(
+                () -> Executors.newFixedThreadPool(threads),
+                true, threads, src, false
+            )
+        );
     }
 
     /**
@@ -201,48 +236,31 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this(svc, src, false);
+        this(svc, Integer.MAX_VALUE, src);
     }
 
     /**
      * Ctor.
      * @param svc Executable service to run thread in
+     * @param threads Maximum number of scalars running at the same time
      * @param src The iterable
-     * @param sht Shut it down
+     * @since 0.57
+     */
+    public AndInThreads(final ExecutorService svc, final int threads,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(new InThreads(() -> svc, false, threads, src, false));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
      */
-    private AndInThreads(final ExecutorService svc,
-        final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
-        this.service = svc;
-        this.iterable = src;
-        this.shut = sht;
+    private AndInThreads(final Scalar<Boolean> origin) {
+        this.origin = origin;
     }
 
     @Override
     public Boolean value() throws Exception {
-        final Collection<Future<Boolean>> futures = new LinkedList<>();
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
-        }
-        final boolean result = new And(
-            Future::get,
-            futures
-        ).value();
-        if (this.shut) {
-            this.service.shutdown();
-            try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
-                    throw new IllegalStateException(
-                        new FormattedText(
-                            "Can't terminate the service, result=%b",
-                            result
-                        ).asString()
-                    );
-                }
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(ex);
-            }
-        }
-        return result;
+        return this.origin.value();
     }
 }
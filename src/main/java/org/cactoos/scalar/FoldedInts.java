@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.IteratorOfInts;
+
+/**
+ * Folds {@code int} values.
+ *
+ * <p>If the iterator of the iterable is a
+ * {@link PrimitiveIterator.OfInt}, like the one of
+ * {@link org.cactoos.iterable.IterableOfInts}, the values are
+ * folded without boxing.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Folded
+ * @since 0.57
+ */
+public final class FoldedInts implements Scalar<Integer> {
+
+    /**
+     * Original iterable.
+     */
+    private final Iterable<Integer> iterable;
+
+    /**
+     * Input.
+     */
+    private final int input;
+
+    /**
+     * Func.
+     */
+    private final IntBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list Array of items
+     */
+    public FoldedInts(final int ipt, final IntBinaryOperator fnc,
+        final int... list) {
+        this(ipt, fnc, new IterableOf<>(() -> new IteratorOfInts(list)));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list List of items
+     */
+    public FoldedInts(final int ipt, final IntBinaryOperator fnc,
+        final Iterable<Integer> list) {
+        this.iterable = list;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Integer value() {
+        int memo = this.input;
+        final Iterator<Integer> iterator = this.iterable.iterator();
+        if (iterator instanceof PrimitiveIterator.OfInt) {
+            final PrimitiveIterator.OfInt primitive =
+                (PrimitiveIterator.OfInt) iterator;
+            while (primitive.hasNext()) {
+                memo = this.func.applyAsInt(memo, primitive.nextInt());
+            }
+        } else {
+            while (iterator.hasNext()) {
+                memo = this.func.applyAsInt(memo, iterator.next());
+            }
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.IteratorOfLongs;
+
+/**
+ * Folds {@code long} values.
+ *
+ * <p>If the iterator of the iterable is a
+ * {@link PrimitiveIterator.OfLong}, like the one of
+ * {@link org.cactoos.iterable.IterableOfLongs}, the values are
+ * folded without boxing.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Folded
+ * @since 0.57
+ */
+public final class FoldedLongs implements Scalar<Long> {
+
+    /**
+     * Original iterable.
+     */
+    private final Iterable<Long> iterable;
+
+    /**
+     * Input.
+     */
+    private final long input;
+
+    /**
+     * Func.
+     */
+    private final LongBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list Array of items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final long... list) {
+        this(ipt, fnc, new IterableOf<>(() -> new IteratorOfLongs(list)));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list List of items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final Iterable<Long> list) {
+        this.iterable = list;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Long value() {
+        long memo = this.input;
+        final Iterator<Long> iterator = this.iterable.iterator();
+        if (iterator instanceof PrimitiveIterator.OfLong) {
+            final PrimitiveIterator.OfLong primitive =
+                (PrimitiveIterator.OfLong) iterator;
+            while (primitive.hasNext()) {
+                memo = this.func.applyAsLong(memo, primitive.nextLong());
+            }
+        } else {
+            while (iterator.hasNext()) {
+                memo = this.func.applyAsLong(memo, iterator.next());
+            }
+        }
+        return memo;
+    }
+}
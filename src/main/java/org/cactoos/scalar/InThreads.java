@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Logical operation over scalars, calculated in threads, which stops
+ * as soon as the result is decided.
+ *
+ * <p>Not more than the given number of scalars run at the same time.
+ * When one of them returns the decisive value or fails, the rest of
+ * them are cancelled and not submitted anymore.</p>
+ *
+ * <p>This class is for internal use only, see {@link AndInThreads}
+ * and {@link OrInThreads}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.57
+ */
+final class InThreads implements Scalar<Boolean> {
+
+    /**
+     * Default maximum number of scalars running at the same time: the
+     * number of processors, but at least two.
+     */
+    static final int THREADS = Math.max(
+        2, Runtime.getRuntime().availableProcessors()
+    );
+
+    /**
+     * The service.
+     */
+    private final Scalar<? extends ExecutorService> service;
+
+    /**
+     * Shut down the service when it's done.
+     */
+    private final boolean shut;
+
+    /**
+     * Maximum number of scalars running at the same time.
+     */
+    private final int threads;
+
+    /**
+     * The scalars.
+     */
+    private final Iterable<? extends Scalar<Boolean>> iterable;
+
+    /**
+     * The value, which decides the result.
+     */
+    private final boolean decisive;
+
+    /**
+     * Ctor.
+     * @param svc The service
+     * @param sht Shut it down
+     * @param thr Maximum number of scalars running at the same time
+     * @param src The scalars
+     * @param dcs The value, which decides the result
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    InThreads(final Scalar<? extends ExecutorService> svc, final boolean sht,
+        final int thr, final Iterable<? extends Scalar<Boolean>> src,
+        final boolean dcs) {
+        if (thr < 1) {
+            throw new IllegalArgumentException(
+                String.format("The number of threads must be positive: %d", thr)
+            );
+        }
+        this.service = svc;
+        this.shut = sht;
+        this.threads = thr;
+        this.iterable = src;
+        this.decisive = dcs;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        final ExecutorService svc = this.service.value();
+        final boolean result;
+        try {
+            result = this.decide(svc);
+        } finally {
+            if (this.shut) {
+                InThreads.shutdown(svc);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Run the scalars until the result is decided.
+     * @param svc The service
+     * @return The result
+     * @throws Exception If one of the scalars fails
+     */
+    private boolean decide(final ExecutorService svc) throws Exception {
+        final CompletionService<Boolean> completion =
+            new ExecutorCompletionService<>(svc);
+        final Queue<Future<Boolean>> running = new LinkedList<>();
+        final Iterator<? extends Scalar<Boolean>> items =
+            this.iterable.iterator();
+        boolean result = !this.decisive;
+        try {
+            while (result != this.decisive
+                && (items.hasNext() || !running.isEmpty())) {
+                while (running.size() < this.threads && items.hasNext()) {
+                    running.add(completion.submit(items.next()::value));
+                }
+                final Future<Boolean> done = completion.take();
+                running.remove(done);
+                result = done.get();
+            }
+        } finally {
+            for (final Future<Boolean> future : running) {
+                future.cancel(true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Shut down the service and wait for it.
+     * @param svc The service
+     * @throws Exception If fails
+     */
+    private static void shutdown(final ExecutorService svc)
+        throws Exception {
+        svc.shutdown();
+        try {
+            if (!svc.awaitTermination(1L, TimeUnit.MINUTES)) {
+                throw new IllegalStateException(
+                    new FormattedText(
+                        "Can't terminate the service %s",
+                        svc
+                    ).asString()
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -29,6 +29,8 @@ import java.util.Iterator;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.io.BuffersInput;
+import org.cactoos.text.Rope;
 
 /**
  * Length.
@@ -63,7 +65,7 @@ public final class LengthOf extends ScalarEnvelope<Long> {
      * @param text The input
      */
     public LengthOf(final Text text) {
-        this(() -> (long) text.asString().length());
+        this(() -> (long) new Rope(text).length());
     }
 
     /**
@@ -86,20 +88,26 @@ public final class LengthOf extends ScalarEnvelope<Long> {
                     "Cannot use a buffer limited to zero size"
                 );
             }
-            try (InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
-                long length = 0L;
-                while (true) {
-                    final int len = stream.read(buf);
-                    if (len > 0) {
-                        length += (long) len;
-                    }
-                    if (len < 0) {
-                        break;
+            long length = -1L;
+            if (input instanceof BuffersInput) {
+                length = ((BuffersInput) input).size();
+            }
+            if (length < 0L) {
+                length = 0L;
+                try (InputStream stream = input.stream()) {
+                    final byte[] buf = new byte[max];
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len > 0) {
+                            length += (long) len;
+                        }
+                        if (len < 0) {
+                            break;
+                        }
                     }
                 }
-                return length;
             }
+            return length;
         });
     }
 
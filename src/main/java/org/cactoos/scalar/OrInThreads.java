@@ -0,0 +1,263 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Func;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+import org.cactoos.func.FuncOf;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Logical disjunction, in multiple threads.
+ *
+ * <p>The usage is same as for {@link Or}</p>
+ *
+ * <p>Not more than the given number of scalars run at the same time,
+ * if the number is given. As soon as one of them
+ * returns {@code true}, the rest are cancelled. If the service is not
+ * given, a new one is created for every calculation and shut down
+ * after it. Without the number of threads and the service, not more
+ * scalars than processors, but at least two, run at the same time, each
+ * in its own thread, virtual on JDK 21 and later, see
+ * {@link ThreadPerTask}.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Unchecked
+ * @see IoChecked
+ * @since 0.57
+ */
+public final class OrInThreads implements Scalar<Boolean> {
+
+    /**
+     * The origin.
+     */
+    private final Scalar<Boolean> origin;
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(final Func<? super X, Boolean> func, final X... src) {
+        this(func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src) {
+        this(
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final Scalar<Boolean>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public OrInThreads(final Iterable<? extends Scalar<Boolean>> src) {
+        this(
+            new InThreads(
+                new ThreadPerTask(),
+                true, InThreads.THREADS, src, true
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param threads Maximum number of scalars running at the same time
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(final int threads,
+        final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src) {
+        this(
+            threads,
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param threads Maximum number of scalars running at the same time
+     * @param src The iterable
+     */
+    public OrInThreads(final int threads,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(
+            new InThreads(
+                () -> Executors.newFixedThreadPool(threads),
+                true, threads, src, true
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param proc Proc to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Proc<? super X> proc,
+        final X... src
+    ) {
+        this(svc, new FuncOf<>(proc, false), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final X... src
+    ) {
+        this(svc, func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param proc Proc to use
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Proc<? super X> proc,
+        final Iterable<? extends X> src
+    ) {
+        this(svc, new FuncOf<>(proc, false), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src
+    ) {
+        this(
+            svc,
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final ExecutorService svc,
+        final Scalar<Boolean>... src) {
+        this(svc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    public OrInThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(svc, Integer.MAX_VALUE, src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param threads Maximum number of scalars running at the same time
+     * @param src The iterable
+     */
+    public OrInThreads(final ExecutorService svc, final int threads,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(new InThreads(() -> svc, false, threads, src, true));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     */
+    private OrInThreads(final Scalar<Boolean> origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        return this.origin.value();
+    }
+}
@@ -24,6 +24,7 @@
 package org.cactoos.scalar;
 
 import java.time.Duration;
+import org.cactoos.BiFunc;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 
@@ -42,6 +43,10 @@ import org.cactoos.Scalar;
  * ).value() // will try to run 5 times before throwing an exception
  * }</pre>
  *
+ * <p>The delay between attempts may grow, see
+ * {@link org.cactoos.func.ExponentialBackoff}, and retries may be
+ * limited by a shared budget, see {@link org.cactoos.func.RetryBudget}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * <p>This class implements {@link Scalar}, which throws a checked
@@ -66,9 +71,14 @@ public final class Retry<T> implements Scalar<T> {
     private final Func<Integer, Boolean> func;
 
     /**
-     * Wait between executions.
+     * Delay before the retry, by its number and the previous delay.
+     */
+    private final BiFunc<Integer, Duration, Duration> backoff;
+
+    /**
+     * Permission to retry.
      */
-    private final Duration wait;
+    private final Scalar<Boolean> budget;
 
     /**
      * Ctor.
@@ -125,9 +135,54 @@ public final class Retry<T> implements Scalar<T> {
      */
     public Retry(final Scalar<? extends T> scalar,
         final Func<Integer, Boolean> exit, final Duration wait) {
+        this(scalar, exit, (attempt, previous) -> wait, new True());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Scalar original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @since 0.57
+     */
+    public Retry(final Scalar<? extends T> scalar, final int attempts,
+        final BiFunc<Integer, Duration, Duration> backoff) {
+        this(scalar, attempts, backoff, new True());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Scalar original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @param budget Permission to retry
+     * @since 0.57
+     */
+    public Retry(final Scalar<? extends T> scalar, final int attempts,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget) {
+        this(scalar, attempt -> attempt >= attempts, backoff, budget);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Func original
+     * @param exit Exit condition, returns TRUE if there is no reason to try
+     * @param backoff Delay before the retry, by its number and the
+     *  previous delay
+     * @param budget Permission to retry
+     * @since 0.57
+     */
+    public Retry(final Scalar<? extends T> scalar,
+        final Func<Integer, Boolean> exit,
+        final BiFunc<Integer, Duration, Duration> backoff,
+        final Scalar<Boolean> budget) {
         this.origin = scalar;
         this.func = exit;
-        this.wait = wait;
+        this.backoff = backoff;
+        this.budget = budget;
     }
 
     @Override
@@ -135,7 +190,8 @@ public final class Retry<T> implements Scalar<T> {
         return new org.cactoos.func.Retry<>(
             (Func<Boolean, T>) input -> this.origin.value(),
             this.func,
-            this.wait
+            this.backoff,
+            this.budget
         ).apply(true);
     }
 }
@@ -35,41 +35,13 @@ import org.cactoos.Scalar;
  * @see Synced
  * @since 0.24
  */
-public final class Solid<T> implements Scalar<T> {
-
-    /**
-     * Origin.
-     */
-    private final Scalar<? extends T> origin;
-
-    /**
-     * Cache.
-     */
-    private volatile T cache;
-
-    /**
-     * Sync lock.
-     */
-    private final Object lock;
+public final class Solid<T> extends ScalarEnvelope<T> {
 
     /**
      * Ctor.
      * @param origin The Scalar to cache and sync
      */
     public Solid(final Scalar<? extends T> origin) {
-        this.origin = origin;
-        this.lock = new Object();
-    }
-
-    @Override
-    public T value() throws Exception {
-        if (this.cache == null) {
-            synchronized (this.lock) {
-                if (this.cache == null) {
-                    this.cache = this.origin.value();
-                }
-            }
-        }
-        return this.cache;
+        super(new Sticky<>(origin));
     }
 }
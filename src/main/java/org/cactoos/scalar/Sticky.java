@@ -23,7 +23,6 @@
  */
 package org.cactoos.scalar;
 
-import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.StickyFunc;
 
@@ -31,10 +30,8 @@ import org.cactoos.func.StickyFunc;
  * Cached version of a Scalar.
  *
  * <p>This {@link Scalar} decorator technically is an in-memory
- * cache.</p>
- *
- * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link Synced}.</p>
+ * cache. The value is calculated once, under a lock; after that it is
+ * returned by a single volatile read, without locking or allocation.</p>
  *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
@@ -51,7 +48,7 @@ import org.cactoos.func.StickyFunc;
  * ).value()
  * }</pre>
  *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread safe.</p>
  *
  * @param <T> Type of result
  * @see StickyFunc
@@ -60,22 +57,44 @@ import org.cactoos.func.StickyFunc;
 public final class Sticky<T> implements Scalar<T> {
 
     /**
-     * Func.
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Cache, published by {@link #done}.
+     */
+    private T cache;
+
+    /**
+     * Is the value calculated?
      */
-    private final Func<Boolean, ? extends T> func;
+    private volatile boolean done;
 
     /**
      * Ctor.
      * @param scalar The Scalar to cache
      */
     public Sticky(final Scalar<? extends T> scalar) {
-        this.func = new StickyFunc<>(
-            input -> scalar.value()
-        );
+        this.origin = scalar;
+        this.lock = new Object();
     }
 
     @Override
     public T value() throws Exception {
-        return this.func.apply(true);
+        if (!this.done) {
+            synchronized (this.lock) {
+                if (!this.done) {
+                    this.cache = this.origin.value();
+                    this.done = true;
+                }
+            }
+        }
+        return this.cache;
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Scalar;
+
+/**
+ * Executor service, which starts a new thread for every task.
+ *
+ * <p>On JDK 21 and later the threads are virtual, see
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}, so thousands of
+ * blocking tasks cost almost nothing. On older JDKs it falls back to
+ * {@link Executors#newCachedThreadPool()}. The choice is made once,
+ * when the class is used for the first time.</p>
+ *
+ * <p>Every call to {@link #value()} makes a new service, it's up to
+ * the caller to shut it down.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.57
+ */
+public final class ThreadPerTask implements Scalar<ExecutorService> {
+
+    /**
+     * The factory of services, found once.
+     */
+    private static final Unchecked<Scalar<ExecutorService>> FACTORY =
+        new Unchecked<>(new Sticky<>(ThreadPerTask::factory));
+
+    @Override
+    public ExecutorService value() throws Exception {
+        return ThreadPerTask.FACTORY.value().value();
+    }
+
+    /**
+     * Find the factory of virtual threads, if the JDK has them.
+     * @return The factory
+     */
+    private static Scalar<ExecutorService> factory() {
+        Scalar<ExecutorService> factory;
+        try {
+            final Method method = Executors.class.getMethod(
+                "newVirtualThreadPerTaskExecutor"
+            );
+            ((ExecutorService) method.invoke(null)).shutdown();
+            factory = () -> (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            factory = Executors::newCachedThreadPool;
+        }
+        return factory;
+    }
+}
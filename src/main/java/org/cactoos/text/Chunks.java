@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Non-empty strings of a {@link Rope}, read at once.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.57
+ */
+final class Chunks {
+
+    /**
+     * The strings, none of them empty.
+     */
+    private final List<String> leaves;
+
+    /**
+     * Position of every string in the whole text.
+     */
+    private final int[] offsets;
+
+    /**
+     * Ctor.
+     * @param leaves The strings, none of them empty
+     */
+    Chunks(final List<String> leaves) {
+        this.leaves = leaves;
+        this.offsets = new int[leaves.size() + 1];
+        for (int idx = 0; idx < leaves.size(); ++idx) {
+            this.offsets[idx + 1] = this.offsets[idx]
+                + leaves.get(idx).length();
+        }
+    }
+
+    /**
+     * Length of the whole text.
+     * @return Number of chars
+     */
+    int length() {
+        return this.offsets[this.leaves.size()];
+    }
+
+    /**
+     * The whole text.
+     * @return The string
+     */
+    String flat() {
+        final String flat;
+        if (this.leaves.isEmpty()) {
+            flat = "";
+        } else if (this.leaves.size() == 1) {
+            flat = this.leaves.get(0);
+        } else {
+            final StringBuilder out = new StringBuilder(this.length());
+            for (final String leaf : this.leaves) {
+                out.append(leaf);
+            }
+            flat = out.toString();
+        }
+        return flat;
+    }
+
+    /**
+     * Part of the text, like {@link String#substring(int, int)}.
+     * @param begin Index of the first char, inclusive
+     * @param end Index of the last char, exclusive
+     * @return The string
+     */
+    String sub(final int begin, final int end) {
+        if (begin < 0 || end > this.length() || begin > end) {
+            throw new StringIndexOutOfBoundsException(
+                String.format(
+                    "begin %d, end %d, length %d", begin, end, this.length()
+                )
+            );
+        }
+        final StringBuilder out = new StringBuilder(end - begin);
+        int idx = this.leaf(begin);
+        int pos = begin;
+        while (pos < end) {
+            final int from = pos - this.offsets[idx];
+            final int till = Math.min(
+                end - this.offsets[idx], this.leaves.get(idx).length()
+            );
+            out.append(this.leaves.get(idx), from, till);
+            pos += till - from;
+            ++idx;
+        }
+        return out.toString();
+    }
+
+    /**
+     * Whether the text starts with the prefix.
+     * @param prefix The prefix
+     * @return TRUE if it does
+     */
+    boolean startsWith(final String prefix) {
+        boolean starts = prefix.length() <= this.length();
+        int pos = 0;
+        for (int idx = 0; starts && pos < prefix.length(); ++idx) {
+            final String leaf = this.leaves.get(idx);
+            final int len = Math.min(leaf.length(), prefix.length() - pos);
+            starts = leaf.regionMatches(0, prefix, pos, len);
+            pos += len;
+        }
+        return starts;
+    }
+
+    /**
+     * Whether the text ends with the suffix.
+     * @param suffix The suffix
+     * @return TRUE if it does
+     */
+    boolean endsWith(final String suffix) {
+        boolean ends = suffix.length() <= this.length();
+        int rest = suffix.length();
+        for (int idx = this.leaves.size() - 1; ends && rest > 0; --idx) {
+            final String leaf = this.leaves.get(idx);
+            final int len = Math.min(leaf.length(), rest);
+            rest -= len;
+            ends = leaf.regionMatches(leaf.length() - len, suffix, rest, len);
+        }
+        return ends;
+    }
+
+    /**
+     * Write the text, string by string.
+     * @param writer The writer
+     * @throws IOException If fails
+     */
+    void write(final Writer writer) throws IOException {
+        for (final String leaf : this.leaves) {
+            writer.write(leaf);
+        }
+    }
+
+    /**
+     * Index of the string the char at the given position belongs to.
+     * @param pos Position in the whole text
+     * @return Index of the string
+     */
+    private int leaf(final int pos) {
+        int idx = Arrays.binarySearch(this.offsets, pos);
+        if (idx < 0) {
+            idx = -idx - 2;
+        }
+        return idx;
+    }
+}
@@ -30,6 +30,9 @@ import org.cactoos.iterable.Mapped;
 /**
  * Concatenate a Text.
  *
+ * <p>The result is a {@link Rope}, so concatenations of concatenations
+ * are copied into one string once, see {@link Rope} for details.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.47
@@ -64,6 +64,6 @@ public final class EndsWith implements Scalar<Boolean> {
 
     @Override
     public Boolean value() throws Exception {
-        return this.origin.asString().endsWith(this.suffix.asString());
+        return new Rope(this.origin).endsWith(this.suffix.asString());
     }
 }
@@ -23,7 +23,6 @@
  */
 package org.cactoos.text;
 
-import java.util.StringJoiner;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
@@ -31,6 +30,9 @@ import org.cactoos.iterable.Mapped;
 /**
  * Join a Text.
  *
+ * <p>The result is a {@link Rope}: joined texts are not copied into
+ * a new string until it's needed, see {@link Rope} for details.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.9
@@ -82,16 +84,6 @@ public final class Joined extends TextEnvelope {
      * @param txts Texts to be joined
      */
     public Joined(final Text delimit, final Iterable<? extends Text> txts) {
-        super(
-            new TextOf(
-                () -> {
-                    final StringJoiner joint = new StringJoiner(delimit.asString());
-                    for (final Text text : txts) {
-                        joint.add(text.asString());
-                    }
-                    return joint.toString();
-                }
-            )
-        );
+        super(new Rope(delimit, txts));
     }
 }
@@ -46,12 +46,28 @@ public final class Normalized extends TextEnvelope {
      * @param text A Text
      */
     public Normalized(final Text text) {
-        super(
-            new Replaced(
-                new Trimmed(text),
-                "\\s+",
-                " "
-            )
-        );
+        super(new Mapped(Normalized::collapsed, new Trimmed(text)));
+    }
+
+    /**
+     * Replace every sequence of whitespace characters, as matched
+     * by {@code \s+}, with a single space.
+     * @param str The string
+     * @return Normalized string
+     */
+    private static String collapsed(final String str) {
+        final StringBuilder out = new StringBuilder(str.length());
+        boolean space = false;
+        for (int idx = 0; idx < str.length(); ++idx) {
+            final char chr = str.charAt(idx);
+            final boolean white = chr == ' ' || chr >= '\t' && chr <= '\r';
+            if (!white) {
+                out.append(chr);
+            } else if (!space) {
+                out.append(' ');
+            }
+            space = white;
+        }
+        return out.toString();
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+
+/**
+ * Pattern compiled from a regular expression.
+ *
+ * <p>A regex without metacharacters, or a single escaped character which
+ * is not a letter or a digit, is compiled with {@link Pattern#LITERAL},
+ * so that it can be looked up without regex matching, see
+ * {@link #literal(Pattern)}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.57
+ */
+final class Regex implements Scalar<Pattern> {
+
+    /**
+     * Regular expression metacharacters.
+     */
+    private static final String META = ".$|()[{^?*+\\";
+
+    /**
+     * The regex.
+     */
+    private final String rgx;
+
+    /**
+     * Ctor.
+     * @param rgx The regex
+     */
+    Regex(final String rgx) {
+        this.rgx = rgx;
+    }
+
+    @Override
+    public Pattern value() {
+        final Pattern pattern;
+        if (this.plain()) {
+            pattern = Pattern.compile(this.rgx, Pattern.LITERAL);
+        } else if (this.rgx.length() == 2 && this.rgx.charAt(0) == '\\'
+            && !Character.isLetterOrDigit(this.rgx.charAt(1))) {
+            pattern = Pattern.compile(this.rgx.substring(1), Pattern.LITERAL);
+        } else {
+            pattern = Pattern.compile(this.rgx);
+        }
+        return pattern;
+    }
+
+    /**
+     * The string matched by the pattern, if it can be looked up
+     * without regex matching.
+     * @param pattern The pattern
+     * @return The string or empty if regex matching is needed
+     */
+    static String literal(final Pattern pattern) {
+        final String literal;
+        if (pattern.flags() == Pattern.LITERAL) {
+            literal = pattern.pattern();
+        } else {
+            literal = "";
+        }
+        return literal;
+    }
+
+    /**
+     * Whether the regex has no metacharacters.
+     * @return TRUE if it matches itself only
+     */
+    private boolean plain() {
+        boolean plain = !this.rgx.isEmpty();
+        for (int idx = 0; plain && idx < this.rgx.length(); ++idx) {
+            plain = Regex.META.indexOf(this.rgx.charAt(idx)) < 0;
+        }
+        return plain;
+    }
+}
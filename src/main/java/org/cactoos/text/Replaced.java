@@ -30,6 +30,7 @@ import java.util.regex.PatternSyntaxException;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.scalar.Sticky;
 
 /**
  * Replace the Text.
@@ -52,7 +53,49 @@ public final class Replaced extends TextEnvelope {
         final CharSequence find,
         final CharSequence replace
     ) {
-        this(text, () -> Pattern.compile(find.toString()), matcher -> replace);
+        this(
+            text,
+            new Sticky<>(() -> new Regex(find.toString()).value()),
+            replace
+        );
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Will replace all instances of the substring matched by {@code regex}
+     * with {@code replace}, which may refer to the captured groups.
+     * @param text The text
+     * @param regex The compiled regular expression
+     * @param replace The replacement string
+     * @since 0.57
+     */
+    public Replaced(
+        final Text text,
+        final Pattern regex,
+        final CharSequence replace
+    ) {
+        this(text, () -> regex, replace);
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Will replace all instances of the substring matched by {@code regex}
+     * with {@code replace}, which may refer to the captured groups.
+     * Occurrences of a {@link Pattern#LITERAL} pattern are replaced without
+     * regex matching, if the replacement doesn't refer to any group.
+     * @param text The text
+     * @param regex The regular expression
+     * @param replace The replacement string
+     * @since 0.57
+     */
+    public Replaced(
+        final Text text,
+        final Scalar<Pattern> regex,
+        final CharSequence replace
+    ) {
+        super(new Mapped(new Substitution(regex, replace), text));
     }
 
     /**
@@ -87,7 +130,7 @@ public final class Replaced extends TextEnvelope {
         super(
             new Mapped(
                 str -> {
-                    final StringBuffer buffer = new StringBuffer();
+                    final StringBuffer buffer = new StringBuffer(str.length());
                     final Matcher matcher = regex.value().matcher(str);
                     while (matcher.find()) {
                         matcher.appendReplacement(
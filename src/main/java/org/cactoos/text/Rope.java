@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Output;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.And;
+import org.cactoos.scalar.Or;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Text made of parts, which are not concatenated until the whole
+ * string is needed.
+ *
+ * <p>Parts that are ropes themselves, even decorated by a
+ * {@link TextEnvelope}, like {@link Joined} or {@link Concatenated},
+ * are not turned into strings, their own parts are used instead. This
+ * way a deep tree of concatenations is copied into one string once, instead
+ * of once per level. Length, {@link #sub(int, int)}, prefix and suffix
+ * checks and writing to an {@link Output} don't build the whole string
+ * at all.</p>
+ *
+ * <p>Parts are read on every call, to read them once decorate the
+ * rope with {@link Sticky}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.57
+ */
+public final class Rope implements Text {
+
+    /**
+     * The delimiter.
+     */
+    private final Text delimit;
+
+    /**
+     * The parts.
+     */
+    private final Iterable<? extends Text> parts;
+
+    /**
+     * Ctor.
+     * @param parts The parts
+     */
+    public Rope(final Text... parts) {
+        this(new IterableOf<>(parts));
+    }
+
+    /**
+     * Ctor.
+     * @param parts The parts
+     */
+    public Rope(final Iterable<? extends Text> parts) {
+        this(new TextOf(""), parts);
+    }
+
+    /**
+     * Ctor.
+     * @param delimit The delimiter
+     * @param parts The parts
+     */
+    public Rope(final Text delimit, final Iterable<? extends Text> parts) {
+        this.delimit = delimit;
+        this.parts = parts;
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return this.chunks().flat();
+    }
+
+    /**
+     * Length of the text.
+     * @return Number of chars
+     * @throws Exception If fails
+     */
+    public int length() throws Exception {
+        return this.chunks().length();
+    }
+
+    /**
+     * Part of the text, like {@link String#substring(int, int)}.
+     * @param begin Index of the first char, inclusive
+     * @param end Index of the last char, exclusive
+     * @return The string
+     * @throws Exception If fails
+     */
+    public String sub(final int begin, final int end) throws Exception {
+        return this.chunks().sub(begin, end);
+    }
+
+    /**
+     * Whether the text starts with the prefix.
+     * @param prefix The prefix
+     * @return TRUE if it does
+     * @throws Exception If fails
+     */
+    public boolean startsWith(final CharSequence prefix) throws Exception {
+        return this.chunks().startsWith(prefix.toString());
+    }
+
+    /**
+     * Whether the text ends with the suffix.
+     * @param suffix The suffix
+     * @return TRUE if it does
+     * @throws Exception If fails
+     */
+    public boolean endsWith(final CharSequence suffix) throws Exception {
+        return this.chunks().endsWith(suffix.toString());
+    }
+
+    /**
+     * Write the text to the output in UTF-8, part by part.
+     * @param output The output
+     * @throws Exception If fails
+     */
+    public void writeTo(final Output output) throws Exception {
+        this.writeTo(output, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write the text to the output, part by part.
+     * @param output The output
+     * @param charset The charset
+     * @throws Exception If fails
+     */
+    public void writeTo(final Output output, final Charset charset)
+        throws Exception {
+        final Chunks chunks = this.chunks();
+        try (Writer writer = new OutputStreamWriter(output.stream(), charset)) {
+            chunks.write(writer);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new UncheckedText(this).asString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.toString().hashCode();
+    }
+
+    @Override
+    @SuppressFBWarnings("EQ_UNUSUAL")
+    public boolean equals(final Object obj) {
+        return new Unchecked<>(
+            new Or(
+                () -> this == obj,
+                new And(
+                    () -> obj instanceof Text,
+                    () -> new UncheckedText(this)
+                        .asString()
+                        .equals(new UncheckedText((Text) obj).asString())
+                )
+            )
+        ).value();
+    }
+
+    /**
+     * Read all the parts.
+     * @return The chunks
+     * @throws Exception If fails
+     */
+    Chunks chunks() throws Exception {
+        final List<String> leaves = new ArrayList<>(0);
+        this.collect(leaves);
+        return new Chunks(leaves);
+    }
+
+    /**
+     * Add non-empty strings of all the parts and delimiters to the list.
+     * @param leaves The list
+     * @throws Exception If fails
+     */
+    private void collect(final List<String> leaves) throws Exception {
+        final String delim = this.delimit.asString();
+        boolean first = true;
+        for (final Text part : this.parts) {
+            if (!first && !delim.isEmpty()) {
+                leaves.add(delim);
+            }
+            first = false;
+            Text inner = part;
+            while (inner instanceof TextEnvelope) {
+                inner = ((TextEnvelope) inner).wrapped();
+            }
+            if (inner instanceof Rope) {
+                ((Rope) inner).collect(leaves);
+            } else {
+                final String leaf = part.asString();
+                if (!leaf.isEmpty()) {
+                    leaves.add(leaf);
+                }
+            }
+        }
+    }
+}
@@ -23,15 +23,21 @@
  */
 package org.cactoos.text;
 
+import java.io.StringReader;
+import java.util.regex.Pattern;
+import org.cactoos.Input;
 import org.cactoos.Text;
+import org.cactoos.io.ReaderOf;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.iterator.IteratorOf;
 
 /**
  * Split the Text.
  *
+ * <p>Tokens are produced lazily, one by one, while iterating. Delimiters
+ * without regex metacharacters, like a newline or a tab, are looked up
+ * without regex matching at all.</p>
+ *
  * @see String#split(String)
  * @see String#split(String, int)
  * @since 0.9
@@ -121,12 +127,108 @@ public final class Split extends IterableEnvelope<Text> {
      */
     public Split(final Text text, final Text rgx, final int lmt) {
         super(
-            new Mapped<>(
-                TextOf::new,
-                new IterableOf<>(
-                    () -> new IteratorOf<>(text.asString().split(rgx.asString(), lmt))
+            new IterableOf<>(
+                () -> new SplitIterator(
+                    new StringReader(text.asString()), rgx.asString(), lmt
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The compiled regex
+     * @see Pattern#split(CharSequence)
+     * @since 0.57
+     */
+    public Split(final Text text, final Pattern rgx) {
+        this(text, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The compiled regex
+     * @param lmt The limit
+     * @see Pattern#split(CharSequence, int)
+     * @since 0.57
+     */
+    public Split(final Text text, final Pattern rgx, final int lmt) {
+        super(
+            new IterableOf<>(
+                () -> new SplitIterator(
+                    new StringReader(text.asString()), rgx, lmt
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The input is read and split chunk by chunk, a new reader
+     * is opened for every iteration.</p>
+     * @param input The input
+     * @param rgx The regex
+     * @see String#split(String)
+     * @since 0.57
+     */
+    public Split(final Input input, final CharSequence rgx) {
+        this(input, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The input is read and split chunk by chunk, a new reader
+     * is opened for every iteration.</p>
+     * @param input The input
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     * @since 0.57
+     */
+    public Split(final Input input, final CharSequence rgx, final int lmt) {
+        super(
+            new IterableOf<>(
+                () -> new SplitIterator(
+                    new ReaderOf(input), rgx.toString(), lmt
                 )
             )
         );
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The input is read and split chunk by chunk, a new reader
+     * is opened for every iteration.</p>
+     * @param input The input
+     * @param rgx The compiled regex
+     * @see Pattern#split(CharSequence)
+     * @since 0.57
+     */
+    public Split(final Input input, final Pattern rgx) {
+        this(input, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The input is read and split chunk by chunk, a new reader
+     * is opened for every iteration.</p>
+     * @param input The input
+     * @param rgx The compiled regex
+     * @param lmt The limit
+     * @see Pattern#split(CharSequence, int)
+     * @since 0.57
+     */
+    public Split(final Input input, final Pattern rgx, final int lmt) {
+        super(
+            new IterableOf<>(
+                () -> new SplitIterator(new ReaderOf(input), rgx, lmt)
+            )
+        );
+    }
 }
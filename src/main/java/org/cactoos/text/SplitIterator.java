@@ -0,0 +1,365 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Text;
+
+/**
+ * Iterator that splits characters of a {@link Reader} around matches
+ * of a {@link Pattern}, reading them chunk by chunk.
+ *
+ * <p>Tokens are the same as the ones of {@link Pattern#split(CharSequence,
+ * int)}, but only the current token and a bounded history of the previous
+ * characters are kept in memory. Lookbehind constructs can't see further
+ * than {@link #CHUNK} characters before the current token.
+ * Delimiters without regular expression metacharacters
+ * are searched with {@link String#indexOf(String, int)} instead of
+ * a {@link Matcher}. The reader is closed as soon as it's exhausted.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.57
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.TooManyFields", "PMD.AvoidFieldNameMatchingMethodName"})
+final class SplitIterator implements Iterator<Text> {
+
+    /**
+     * Number of characters read at once and kept behind the current token.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * The source of characters.
+     */
+    private final Reader reader;
+
+    /**
+     * The matcher of delimiters.
+     */
+    private final Matcher matcher;
+
+    /**
+     * The literal delimiter, empty if the pattern must be used.
+     */
+    private final String literal;
+
+    /**
+     * The limit, as in {@link Pattern#split(CharSequence, int)}.
+     */
+    private final int limit;
+
+    /**
+     * Characters read and not yet discarded.
+     */
+    private final StringBuilder buffer;
+
+    /**
+     * Chunk to read into.
+     */
+    private final char[] chunk;
+
+    /**
+     * Tokens ready to be returned.
+     */
+    private final LinkedList<String> ready;
+
+    /**
+     * Position of the current token in the buffer.
+     */
+    private int start;
+
+    /**
+     * Position in the buffer to look for the next delimiter from.
+     */
+    private int search;
+
+    /**
+     * Start of the last delimiter found.
+     */
+    private int begin;
+
+    /**
+     * End of the last delimiter found.
+     */
+    private int end;
+
+    /**
+     * Number of tokens produced so far.
+     */
+    private int count;
+
+    /**
+     * Number of trailing empty tokens held back.
+     */
+    private int empties;
+
+    /**
+     * Whether any delimiter was found.
+     */
+    private boolean matched;
+
+    /**
+     * Whether the reader is exhausted.
+     */
+    private boolean eof;
+
+    /**
+     * Whether the last token was produced.
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param rgx The regex
+     * @param lmt The limit
+     */
+    SplitIterator(final Reader reader, final String rgx, final int lmt) {
+        this(reader, new Regex(rgx).value(), lmt);
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param pattern The pattern
+     * @param lmt The limit
+     */
+    SplitIterator(final Reader reader, final Pattern pattern, final int lmt) {
+        this.reader = reader;
+        this.buffer = new StringBuilder(0);
+        this.matcher = pattern.matcher(this.buffer)
+            .useTransparentBounds(true)
+            .useAnchoringBounds(false);
+        this.literal = Regex.literal(pattern);
+        this.limit = lmt;
+        this.chunk = new char[SplitIterator.CHUNK];
+        this.ready = new LinkedList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean more = true;
+        while (this.ready.isEmpty() && more) {
+            more = this.fetch();
+        }
+        return !this.ready.isEmpty();
+    }
+
+    @Override
+    public Text next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        return new TextOf(this.ready.removeFirst());
+    }
+
+    /**
+     * Produce the next token, holding back trailing empty ones.
+     * @return TRUE if a token was produced
+     */
+    private boolean fetch() {
+        final boolean more = !this.finished;
+        if (more) {
+            final String token = this.token();
+            if (this.limit == 0 && this.matched && token.isEmpty()) {
+                ++this.empties;
+            } else {
+                for (; this.empties > 0; --this.empties) {
+                    this.ready.add("");
+                }
+                this.ready.add(token);
+            }
+        }
+        return more;
+    }
+
+    /**
+     * Cut the next token out of the buffer.
+     * @return The token
+     */
+    private String token() {
+        final String token;
+        if (this.limit > 0 && this.count == this.limit - 1) {
+            while (!this.eof) {
+                this.read();
+            }
+            token = this.buffer.substring(this.start);
+            this.finished = true;
+        } else if (this.find()) {
+            token = this.buffer.substring(this.start, this.begin);
+            this.start = this.end;
+            this.search = this.next(this.begin, this.end);
+            this.matched = true;
+            this.compact();
+        } else {
+            token = this.buffer.substring(this.start);
+            this.finished = true;
+        }
+        if (this.finished) {
+            this.buffer.setLength(0);
+            this.buffer.trimToSize();
+        }
+        ++this.count;
+        return token;
+    }
+
+    /**
+     * Find the next delimiter, skipping an empty one at the very beginning.
+     * @return TRUE if found
+     */
+    private boolean find() {
+        boolean found = this.delimiter();
+        while (found && !this.matched && this.end == 0) {
+            this.search = 1;
+            found = this.delimiter();
+        }
+        return found;
+    }
+
+    /**
+     * Find the next delimiter, reading as much as needed to make sure
+     * more characters can't change it.
+     * @return TRUE if found
+     */
+    private boolean delimiter() {
+        final boolean found;
+        if (this.literal.isEmpty()) {
+            found = this.matched();
+        } else {
+            found = this.indexed();
+        }
+        return found;
+    }
+
+    /**
+     * Find the next literal delimiter.
+     * @return TRUE if found
+     */
+    private boolean indexed() {
+        int from = this.search;
+        int idx = this.buffer.indexOf(this.literal, from);
+        while (idx < 0 && !this.eof) {
+            from = Math.max(
+                from, this.buffer.length() - this.literal.length() + 1
+            );
+            this.read();
+            idx = this.buffer.indexOf(this.literal, from);
+        }
+        if (idx >= 0) {
+            this.begin = idx;
+            this.end = idx + this.literal.length();
+        }
+        return idx >= 0;
+    }
+
+    /**
+     * Find the next delimiter with the matcher.
+     * @return TRUE if found
+     */
+    private boolean matched() {
+        boolean found = false;
+        boolean done = false;
+        while (!done) {
+            if (this.search <= this.buffer.length()) {
+                this.matcher.region(this.search, this.buffer.length());
+                found = this.matcher.find();
+            }
+            done = this.eof || found && !this.matcher.hitEnd()
+                && !this.matcher.requireEnd();
+            if (!done) {
+                found = false;
+                this.read();
+            }
+        }
+        if (found) {
+            this.begin = this.matcher.start();
+            this.end = this.matcher.end();
+        }
+        return found;
+    }
+
+    /**
+     * Position to look for the delimiter after the given one from.
+     * @param from Start of the delimiter
+     * @param till End of the delimiter
+     * @return Position in the buffer
+     */
+    private int next(final int from, final int till) {
+        final int pos;
+        if (from == till) {
+            pos = till + 1;
+        } else {
+            pos = till;
+        }
+        return pos;
+    }
+
+    /**
+     * Discard characters far behind the current token.
+     */
+    private void compact() {
+        if (this.start > SplitIterator.CHUNK << 1) {
+            final int shift = this.start - SplitIterator.CHUNK;
+            this.buffer.delete(0, shift);
+            this.start -= shift;
+            this.search -= shift;
+        }
+    }
+
+    /**
+     * Read at least a chunk, or as much as was not yet searched,
+     * unless the reader is exhausted.
+     */
+    private void read() {
+        final int want = Math.max(
+            SplitIterator.CHUNK, this.buffer.length() - this.search
+        );
+        int total = 0;
+        try {
+            while (total < want && !this.eof) {
+                final int len = this.reader.read(this.chunk);
+                if (len < 0) {
+                    this.eof = true;
+                    this.reader.close();
+                } else {
+                    this.buffer.append(this.chunk, 0, len);
+                    total += len;
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -68,7 +68,7 @@ public final class StartsWith implements Scalar<Boolean> {
 
     @Override
     public Boolean value() throws Exception {
-        return this.text.asString().startsWith(this.prefix.asString());
+        return new Rope(this.text).startsWith(this.prefix.asString());
     }
 
 }
@@ -32,6 +32,9 @@ import org.cactoos.scalar.Constant;
 /**
  * Extract a substring from a Text.
  *
+ * <p>With constant positions, only the requested chars of a {@link Rope},
+ * like {@link Joined} or {@link Concatenated}, are copied.</p>
+ *
  * <p>There is no thread-safety guarantee.
  * @since 0.11
  */
@@ -62,7 +65,7 @@ public final class Sub extends TextEnvelope {
      * @param strt Start position in the text
      */
     public Sub(final Text text, final int strt) {
-        this(text, new Constant<>(strt));
+        this(text, strt, Integer.MAX_VALUE);
     }
 
     /**
@@ -90,7 +93,16 @@ public final class Sub extends TextEnvelope {
      * @param finish End position in the text
      */
     public Sub(final Text text, final int strt, final int finish) {
-        this(text, new Constant<>(strt), new Constant<>(finish));
+        super(
+            new TextOfScalar(
+                () -> {
+                    final Chunks chunks = new Rope(text).chunks();
+                    return chunks.sub(
+                        Math.max(strt, 0), Math.min(finish, chunks.length())
+                    );
+                }
+            )
+        );
     }
 
     /**
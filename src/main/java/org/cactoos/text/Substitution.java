@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Replacement of all matches of a pattern by the same string.
+ *
+ * <p>The replacement may refer to captured groups, like
+ * {@link Matcher#appendReplacement(StringBuffer, String)}. If it doesn't,
+ * it's appended as is, and if the pattern is {@link Pattern#LITERAL}
+ * its occurrences are found by {@link String#indexOf(String, int)}
+ * without regex matching at all.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.57
+ */
+final class Substitution implements Func<String, String> {
+
+    /**
+     * The pattern.
+     */
+    private final Scalar<Pattern> regex;
+
+    /**
+     * The replacement.
+     */
+    private final CharSequence replace;
+
+    /**
+     * Ctor.
+     * @param regex The pattern
+     * @param replace The replacement
+     */
+    Substitution(final Scalar<Pattern> regex, final CharSequence replace) {
+        this.regex = regex;
+        this.replace = replace;
+    }
+
+    @Override
+    public String apply(final String str) throws Exception {
+        final Pattern pattern = this.regex.value();
+        final String rpl = this.replace.toString();
+        final String literal = Regex.literal(pattern);
+        final String result;
+        if (rpl.indexOf('$') >= 0 || rpl.indexOf('\\') >= 0) {
+            result = pattern.matcher(str).replaceAll(rpl);
+        } else if (literal.isEmpty()) {
+            result = Substitution.matched(pattern.matcher(str), str, rpl);
+        } else {
+            result = Substitution.indexed(literal, str, rpl);
+        }
+        return result;
+    }
+
+    /**
+     * Replace matches of the matcher.
+     * @param matcher The matcher
+     * @param str The string
+     * @param rpl The replacement
+     * @return Replaced string
+     */
+    private static String matched(final Matcher matcher, final String str,
+        final String rpl) {
+        final String result;
+        if (matcher.find()) {
+            final StringBuilder out = new StringBuilder(str.length());
+            int pos = 0;
+            do {
+                out.append(str, pos, matcher.start()).append(rpl);
+                pos = matcher.end();
+            } while (matcher.find());
+            result = out.append(str, pos, str.length()).toString();
+        } else {
+            result = str;
+        }
+        return result;
+    }
+
+    /**
+     * Replace occurrences of the literal.
+     * @param literal The literal, not empty
+     * @param str The string
+     * @param rpl The replacement
+     * @return Replaced string
+     */
+    private static String indexed(final String literal, final String str,
+        final String rpl) {
+        int idx = str.indexOf(literal);
+        final String result;
+        if (idx < 0) {
+            result = str;
+        } else {
+            final StringBuilder out = new StringBuilder(str.length());
+            int pos = 0;
+            while (idx >= 0) {
+                out.append(str, pos, idx).append(rpl);
+                pos = idx + literal.length();
+                idx = str.indexOf(literal, pos);
+            }
+            result = out.append(str, pos, str.length()).toString();
+        }
+        return result;
+    }
+}
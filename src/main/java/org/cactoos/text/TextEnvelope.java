@@ -65,4 +65,12 @@ public abstract class TextEnvelope implements Text {
     public final int hashCode() {
         return this.origin.hashCode();
     }
+
+    /**
+     * The decorated text, with exactly the same content.
+     * @return The text
+     */
+    final Text wrapped() {
+        return this.origin;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import org.cactoos.io.InputOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.HexOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link DigestsOf}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class DigestsOfTest {
+
+    @Test
+    void calculatesMd5InOneRead() throws Exception {
+        new Assertion<>(
+            "Can't calculate the string's MD5 checksum with others",
+            new HexOf(
+                new DigestsOf(
+                    new InputOf("Hello World!"), "MD5", "SHA-1", "SHA-256"
+                ).value().get("MD5")
+            ),
+            new HasString("ed076287532e86365e841e92bfc50d8c")
+        ).affirm();
+    }
+
+    @Test
+    void calculatesSha1InOneRead() throws Exception {
+        new Assertion<>(
+            "Can't calculate the string's SHA-1 checksum with others",
+            new HexOf(
+                new DigestsOf(
+                    new InputOf("Hello World!"), "MD5", "SHA-1", "SHA-256"
+                ).value().get("SHA-1")
+            ),
+            new HasString("2ef7bde608ce5404e97d5f042f95f89f1c232871")
+        ).affirm();
+    }
+
+    @Test
+    void calculatesSha256WithSmallBuffer() throws Exception {
+        new Assertion<>(
+            "Can't calculate the string's SHA-256 checksum with a small buffer",
+            new HexOf(
+                new DigestsOf(
+                    new InputOf("Hello World!"), 5,
+                    new ListOf<>("SHA-256", "MD5")
+                ).value().get("SHA-256")
+            ),
+            new HasString(
+                "7f83b1657ff1fc53b92dc18148a1d65dfc2d4b1fa3d677284addd200126d9069"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepsEveryAlgorithmOnce() throws Exception {
+        new Assertion<>(
+            "Can't keep every algorithm once, in order",
+            new ListOf<>(
+                new DigestsOf(
+                    new InputOf("text"), "SHA-1", "MD5", "SHA-1"
+                ).value().keySet()
+            ),
+            new IsEqual<>(new ListOf<>("SHA-1", "MD5"))
+        ).affirm();
+    }
+}
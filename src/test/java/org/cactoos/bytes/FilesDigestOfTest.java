@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.io.Directory;
+import org.cactoos.text.HexOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link FilesDigestOf}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilesDigestOfTest {
+
+    @Test
+    void ignoresOrderOfPaths(@TempDir final Path dir) throws Exception {
+        FilesDigestOfTest.tree(dir);
+        new Assertion<>(
+            "Can't calculate the same digest of files listed in parallel",
+            new HexOf(
+                new FilesDigestOf(
+                    dir,
+                    new Directory(dir, (path, attrs) -> true, 5, 4),
+                    "SHA-256"
+                )
+            ).asString(),
+            new IsEqual<>(
+                new HexOf(new FilesDigestOf(dir, "SHA-256")).asString()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void skipsEmptyFolders(@TempDir final Path dir) throws Exception {
+        FilesDigestOfTest.tree(dir);
+        final String before = new HexOf(
+            new FilesDigestOf(dir, "MD5")
+        ).asString();
+        Files.createDirectories(dir.resolve("x/y"));
+        new Assertion<>(
+            "Can't skip empty folders",
+            new HexOf(new FilesDigestOf(dir, "MD5")).asString(),
+            new IsEqual<>(before)
+        ).affirm();
+    }
+
+    @Test
+    void changesWhenFileIsRenamed(@TempDir final Path dir) throws Exception {
+        FilesDigestOfTest.tree(dir);
+        final String before = new HexOf(
+            new FilesDigestOf(dir, "SHA-1")
+        ).asString();
+        Files.move(dir.resolve("a/b.txt"), dir.resolve("a/c.txt"));
+        new Assertion<>(
+            "Can't see a renamed file",
+            new HexOf(new FilesDigestOf(dir, "SHA-1")).asString(),
+            new IsNot<>(new IsEqual<>(before))
+        ).affirm();
+    }
+
+    @Test
+    void digestsGivenPaths(@TempDir final Path dir) throws Exception {
+        FilesDigestOfTest.tree(dir);
+        new Assertion<>(
+            "Can't digest the given paths only",
+            new HexOf(
+                new FilesDigestOf(
+                    dir,
+                    Collections.singleton(dir.resolve("a/b.txt")),
+                    "SHA-256"
+                )
+            ).asString(),
+            new IsEqual<>(
+                new HexOf(
+                    new FilesDigestOf(
+                        dir, new Directory(dir.resolve("a")), "SHA-256"
+                    )
+                ).asString()
+            )
+        ).affirm();
+    }
+
+    /**
+     * Make a tree of files.
+     * @param dir Where to make it
+     * @throws Exception If fails
+     */
+    private static void tree(final Path dir) throws Exception {
+        for (int idx = 0; idx < 5; ++idx) {
+            final Path sub = dir.resolve(String.format("d%d/e", idx));
+            Files.createDirectories(sub);
+            Files.write(sub.resolve("f"), String.valueOf(idx).getBytes());
+        }
+        Files.createDirectories(dir.resolve("a"));
+        Files.write(dir.resolve("a/b.txt"), "hello".getBytes());
+    }
+}
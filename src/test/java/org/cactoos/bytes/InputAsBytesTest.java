@@ -26,6 +26,7 @@ package org.cactoos.bytes;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.SizedInput;
 import org.cactoos.io.SlowInputStream;
 import org.cactoos.iterable.Endless;
 import org.cactoos.iterable.HeadOf;
@@ -124,4 +125,47 @@ final class InputAsBytesTest {
         ).affirm();
     }
 
+    @Test
+    void readsInputShorterThanItsSize() throws Exception {
+        new Assertion<>(
+            "must read input that is shorter than its size hint",
+            new InputAsBytes(
+                new SizedInput() {
+                    @Override
+                    public InputStream stream() throws Exception {
+                        return new InputOf("abc").stream();
+                    }
+
+                    @Override
+                    public long size() {
+                        return 10L;
+                    }
+                }
+            ).asBytes(),
+            new IsEqual<>("abc".getBytes(StandardCharsets.UTF_8))
+        ).affirm();
+    }
+
+    @Test
+    void readsInputLongerThanItsSize() throws Exception {
+        new Assertion<>(
+            "must read input that is longer than its size hint",
+            new InputAsBytes(
+                new SizedInput() {
+                    @Override
+                    public InputStream stream() throws Exception {
+                        return new InputOf("abcdef").stream();
+                    }
+
+                    @Override
+                    public long size() {
+                        return 2L;
+                    }
+                },
+                3
+            ).asBytes(),
+            new IsEqual<>("abcdef".getBytes(StandardCharsets.UTF_8))
+        ).affirm();
+    }
+
 }
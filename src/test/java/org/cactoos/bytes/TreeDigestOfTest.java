@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.bytes;
+
+import org.cactoos.io.InputOf;
+import org.cactoos.text.HexOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link TreeDigestOf}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TreeDigestOfTest {
+
+    @Test
+    void digestsOneChunk() {
+        new Assertion<>(
+            "Can't calculate the tree digest of one chunk",
+            new HexOf(
+                new TreeDigestOf(new InputOf("Hello World!"), "SHA-256")
+            ),
+            new HasString(
+                "61f417374f4400b47dcae1a8f402d4f4dacf455a0442a06aa455a447b0d4e170"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void digestsChunksInParallel() {
+        new Assertion<>(
+            "Can't calculate the tree digest of chunks in parallel",
+            new HexOf(
+                new TreeDigestOf(new InputOf("Hello World!"), "SHA-256", 6, 2)
+            ),
+            new HasString(
+                "ad33169582597c528758ac7d5dd01909e67eed693d4e22866e83589f948bb259"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void digestsEmptyInput() {
+        new Assertion<>(
+            "Can't calculate the tree digest of an empty input",
+            new HexOf(
+                new TreeDigestOf(new InputOf(""), "SHA-256", 4, 3)
+            ),
+            new HasString(
+                "5df6e0e2761359d30a8275058e299fcc0381534545f55cf43e41983f5d4c9456"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveChunk() {
+        new Assertion<>(
+            "Must reject a non-positive size of a chunk",
+            () -> new TreeDigestOf(new InputOf("Hello"), "SHA-256", 0, 2)
+                .asBytes(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -311,6 +311,28 @@ final class ThreadsTest {
     /**
      * Sleep.
      */
+    /**
+     * Execute the tasks concurrently, a thread per task.
+     */
+    @Test
+    void containsValuesWithThreadPerTask() {
+        new Assertion<>(
+            "Must contain results from callables, a thread per task",
+            new Threads<String>(
+                Duration.ofSeconds(1),
+                () -> {
+                    this.sleep();
+                    return "first";
+                },
+                () -> {
+                    this.sleep();
+                    return "second";
+                }
+            ),
+            new HasValues<>("first", "second")
+        ).affirm();
+    }
+
     private void sleep() {
         try {
             TimeUnit.MILLISECONDS.sleep(100L);
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link AsyncChained}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AsyncChainedTest {
+
+    @Test
+    void chainsTwoFuncs() throws Exception {
+        new Assertion<>(
+            "Must run the second func after the first one",
+            new AsyncChained<String, String, Integer>(
+                new AsyncStage<>(String::trim),
+                new AsyncStage<>(String::length)
+            ).apply(" hello ").get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotRunSecondFuncAfterFailure() throws Exception {
+        final CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("failed"));
+        new Assertion<>(
+            "Must fail without running the second func",
+            new AsyncChained<String, String, String>(
+                input -> failed,
+                input -> {
+                    throw new IllegalArgumentException(input);
+                }
+            ).apply("ignored").handle(
+                (value, error) -> error.getCause().getMessage()
+            ).get(),
+            new IsEqual<>("failed")
+        ).affirm();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link AsyncRetry}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AsyncRetryTest {
+
+    @Test
+    void retriesUntilSuccess() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must retry until the func succeeds",
+            new AsyncRetry<String, String>(
+                new AsyncStage<>(
+                    input -> {
+                        if (calls.incrementAndGet() < 3) {
+                            throw new IllegalStateException("not yet");
+                        }
+                        return input;
+                    }
+                ),
+                5,
+                new ExponentialBackoff(
+                    Duration.ofMillis(1L), Duration.ofMillis(10L)
+                )
+            ).apply("done").get(),
+            new IsEqual<>("done")
+        ).affirm();
+    }
+
+    @Test
+    void failsWithLastError() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must fail with the last error",
+            new AsyncRetry<String, String>(
+                input -> {
+                    final CompletableFuture<String> failed =
+                        new CompletableFuture<>();
+                    failed.completeExceptionally(
+                        new IllegalStateException(
+                            String.valueOf(calls.incrementAndGet())
+                        )
+                    );
+                    return failed;
+                },
+                3,
+                (attempt, previous) -> Duration.ofMillis(1L)
+            ).apply("any").handle((value, error) -> error.getMessage()).get(),
+            new IsEqual<>("3")
+        ).affirm();
+    }
+}
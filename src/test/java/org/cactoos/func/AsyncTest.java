@@ -25,8 +25,10 @@ package org.cactoos.func;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -158,4 +160,62 @@ final class AsyncTest {
             )
         ).affirm();
     }
+
+    @Test
+    void interruptsWhenCancelled() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Future<String> future = new Async<String, String>(
+            input -> {
+                started.countDown();
+                try {
+                    TimeUnit.DAYS.sleep(1L);
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                }
+                return input;
+            }
+        ).apply("cancel me");
+        started.await();
+        future.cancel(true);
+        new Assertion<>(
+            "Must interrupt the func when cancelled",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void completesWithResult() throws Exception {
+        new Assertion<>(
+            "Must complete the future with the result",
+            new Async<String, Integer>(String::length).apply("four").join(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void completesWithError() throws Exception {
+        new Assertion<>(
+            "Must complete the future with an error of the func",
+            new Async<String, String>(
+                input -> {
+                    throw new AssertionError("broken");
+                }
+            ).apply("error").handle(
+                (value, error) -> error.getClass()
+            ).get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(AssertionError.class)
+        ).affirm();
+    }
+
+    @Test
+    void isFuncOfFuture() throws Exception {
+        final Func<String, Future<String>> func = new Async<>(input -> input);
+        new Assertion<>(
+            "Must be a func returning a future",
+            func.apply("future").get(1L, TimeUnit.MINUTES),
+            new IsEqual<>("future")
+        ).affirm();
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link AsyncTimed}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AsyncTimedTest {
+
+    @Test
+    void completesInTime() throws Exception {
+        new Assertion<>(
+            "Must complete with the result",
+            new AsyncTimed<String, Integer>(String::length, 5000L)
+                .apply("hello").get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void timesOutAndInterrupts() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AsyncTimed<String, String> timed = new AsyncTimed<>(
+            input -> {
+                try {
+                    TimeUnit.DAYS.sleep(1L);
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                }
+                return input;
+            },
+            50L
+        );
+        Throwable cause = new IllegalStateException("not failed");
+        try {
+            timed.apply("slow").get();
+        } catch (final ExecutionException ex) {
+            cause = ex.getCause();
+        }
+        new Assertion<>(
+            "Must fail with timeout",
+            cause,
+            new IsInstanceOf(TimeoutException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the func",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must count the timeout",
+            timed.timeouts(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsOrigin() throws Exception {
+        final CompletableFuture<String> origin = new CompletableFuture<>();
+        final Throwable cause = new AsyncTimed<String, String>(
+            10L, input -> origin
+        ).apply("never").handle((value, error) -> error).get();
+        new Assertion<>(
+            "Must cancel the origin future",
+            origin.isCancelled(),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must fail with timeout",
+            cause,
+            new IsInstanceOf(TimeoutException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+import org.cactoos.scalar.Unchecked;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Cache}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final Cache<Integer, Integer> cache = new Cache<>(2);
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = key -> {
+            calls.incrementAndGet();
+            return key;
+        };
+        cache.value(1, func);
+        cache.value(2, func);
+        cache.value(1, func);
+        cache.value(3, func);
+        cache.value(1, func);
+        cache.value(2, func);
+        new Assertion<>(
+            "Must evict the least recently used key",
+            calls.get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void countsStatistics() throws Exception {
+        final Cache<Integer, Integer> cache = new Cache<>(1);
+        cache.value(1, key -> key);
+        cache.value(1, key -> key);
+        cache.value(2, key -> key);
+        new Assertion<>(
+            "Must count hits, misses and evictions",
+            new long[] {cache.hits(), cache.misses(), cache.evictions()},
+            new IsEqual<>(new long[] {1L, 2L, 1L})
+        ).affirm();
+    }
+
+    @Test
+    void expiresAfterTimeToLive() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final Cache<Integer, Long> cache = new Cache<>(
+            10, 1, 100L, Long.MAX_VALUE, clock::get
+        );
+        cache.value(1, key -> clock.get());
+        clock.set(50L);
+        cache.value(1, key -> clock.get());
+        clock.set(100L);
+        new Assertion<>(
+            "Must recalculate value after time-to-live",
+            cache.value(1, key -> clock.get()),
+            new IsEqual<>(100L)
+        ).affirm();
+    }
+
+    @Test
+    void expiresAfterTimeToIdle() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final Cache<Integer, Long> cache = new Cache<>(
+            10, 1, Long.MAX_VALUE, 100L, clock::get
+        );
+        cache.value(1, key -> clock.get());
+        clock.set(90L);
+        cache.value(1, key -> clock.get());
+        clock.set(180L);
+        new Assertion<>(
+            "Must keep value that was recently requested",
+            cache.value(1, key -> clock.get()),
+            new IsEqual<>(0L)
+        ).affirm();
+        clock.set(280L);
+        new Assertion<>(
+            "Must recalculate value after time-to-idle",
+            cache.value(1, key -> clock.get()),
+            new IsEqual<>(280L)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNothingWithZeroSize() throws Exception {
+        final Cache<Integer, Integer> cache = new Cache<>(0);
+        cache.value(1, key -> key);
+        cache.value(1, key -> key);
+        new Assertion<>(
+            "Must not cache anything",
+            cache.misses(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void worksInThreads() {
+        final Cache<Integer, Integer> cache = new Cache<>(
+            64, 8, Duration.ofMinutes(1L), Duration.ofMinutes(1L)
+        );
+        final AtomicInteger key = new AtomicInteger();
+        new Assertion<>(
+            "Must work well in multiple threads",
+            ignored -> {
+                final int num = key.incrementAndGet() % 100;
+                return cache.value(num, input -> input * 2) == num * 2;
+            },
+            new RunsInThreads<>(new AtomicInteger())
+        ).affirm();
+    }
+
+    @Test
+    void calculatesOnceInThreads() {
+        final Cache<Integer, Integer> cache = new Cache<>(10, 4);
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must calculate the value in one thread only",
+            ignored -> cache.value(
+                1,
+                key -> {
+                    Thread.sleep(10L);
+                    return calls.incrementAndGet();
+                }
+            ) == 1,
+            new RunsInThreads<>(new AtomicInteger())
+        ).affirm();
+    }
+
+    @Test
+    void forgetsFailures() throws Exception {
+        final Cache<Integer, Integer> cache = new Cache<>(10);
+        new Assertion<>(
+            "Must throw the exception of the function",
+            () -> cache.value(
+                1,
+                key -> {
+                    throw new IllegalStateException("Failed");
+                }
+            ),
+            new Throws<>("Failed", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must recalculate value after failure",
+            cache.value(1, key -> key),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsErrors() throws Exception {
+        final Cache<Integer, Integer> cache = new Cache<>(10);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        try {
+            cache.value(
+                1,
+                key -> {
+                    throw new AssertionError("Broken");
+                }
+            );
+        } catch (final AssertionError ex) {
+            error.set(ex);
+        }
+        new Assertion<>(
+            "Must throw the error of the function",
+            error.get().getMessage(),
+            new IsEqual<>("Broken")
+        ).affirm();
+        new Assertion<>(
+            "Must recalculate value after error",
+            cache.value(1, key -> key),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsCalculationWhenWaiterIsInterrupted() throws Exception {
+        final Cache<Integer, Integer> cache = new Cache<>(10);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> slow = key -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return key;
+        };
+        final Thread owner = new Thread(
+            () -> new Unchecked<>(() -> cache.value(1, slow)).value()
+        );
+        owner.start();
+        started.await();
+        Thread.currentThread().interrupt();
+        new Assertion<>(
+            "Must throw to the interrupted waiter",
+            () -> cache.value(1, slow),
+            new Throws<>(InterruptedException.class)
+        ).affirm();
+        release.countDown();
+        owner.join();
+        new Assertion<>(
+            "Must keep the value being calculated",
+            cache.value(1, slow) + calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
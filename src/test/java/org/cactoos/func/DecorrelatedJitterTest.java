@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link DecorrelatedJitter}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class DecorrelatedJitterTest {
+
+    @Test
+    void staysWithinThreeTimesPrevious() throws Exception {
+        final Duration delay = new DecorrelatedJitter(
+            Duration.ofMillis(10L), Duration.ofMinutes(1L)
+        ).apply(2, Duration.ofMillis(100L));
+        new Assertion<>(
+            "Must not wait longer than three times the previous delay",
+            delay,
+            Matchers.lessThanOrEqualTo(Duration.ofMillis(300L))
+        ).affirm();
+        new Assertion<>(
+            "Must not wait shorter than the base",
+            delay,
+            Matchers.greaterThanOrEqualTo(Duration.ofMillis(10L))
+        ).affirm();
+    }
+
+    @Test
+    void stopsAtCap() throws Exception {
+        new Assertion<>(
+            "Must not wait longer than the cap",
+            new DecorrelatedJitter(
+                Duration.ofMillis(10L), Duration.ofSeconds(1L)
+            ).apply(10, Duration.ofSeconds(10L)),
+            Matchers.lessThanOrEqualTo(Duration.ofSeconds(1L))
+        ).affirm();
+    }
+
+    @Test
+    void acceptsLongestCap() throws Exception {
+        new Assertion<>(
+            "Must not overflow with the longest cap",
+            new DecorrelatedJitter(
+                Duration.ofNanos(Long.MAX_VALUE),
+                Duration.ofNanos(Long.MAX_VALUE)
+            ).apply(2, Duration.ofNanos(Long.MAX_VALUE)),
+            Matchers.greaterThan(Duration.ZERO)
+        ).affirm();
+    }
+}
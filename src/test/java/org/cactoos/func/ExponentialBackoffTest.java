@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ExponentialBackoff}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExponentialBackoffTest {
+
+    @Test
+    void doublesDelay() throws Exception {
+        new Assertion<>(
+            "Must double the delay with every retry",
+            new ExponentialBackoff(
+                Duration.ofMillis(100L), Duration.ofMinutes(1L), false
+            ).apply(4, Duration.ZERO),
+            new IsEqual<>(Duration.ofMillis(800L))
+        ).affirm();
+    }
+
+    @Test
+    void stopsAtCap() throws Exception {
+        new Assertion<>(
+            "Must not wait longer than the cap",
+            new ExponentialBackoff(
+                Duration.ofMillis(100L), Duration.ofSeconds(1L), false
+            ).apply(Integer.MAX_VALUE, Duration.ZERO),
+            new IsEqual<>(Duration.ofSeconds(1L))
+        ).affirm();
+    }
+
+    @Test
+    void randomizesDelay() throws Exception {
+        new Assertion<>(
+            "Must not wait longer than the exponential delay",
+            new ExponentialBackoff(
+                Duration.ofMillis(100L), Duration.ofMinutes(1L)
+            ).apply(3, Duration.ZERO),
+            Matchers.lessThanOrEqualTo(Duration.ofMillis(400L))
+        ).affirm();
+    }
+
+    @Test
+    void acceptsLongestCap() throws Exception {
+        new Assertion<>(
+            "Must not overflow with the longest cap",
+            new ExponentialBackoff(
+                Duration.ofMillis(100L), Duration.ofNanos(Long.MAX_VALUE)
+            ).apply(Integer.MAX_VALUE, Duration.ZERO),
+            Matchers.greaterThanOrEqualTo(Duration.ZERO)
+        ).affirm();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RetryBudget}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RetryBudgetTest {
+
+    @Test
+    void runsOutOfTokens() throws Exception {
+        final RetryBudget budget = new RetryBudget(2, 1.0d, () -> 0L);
+        budget.value();
+        budget.value();
+        new Assertion<>(
+            "Must not allow more retries than the capacity",
+            budget,
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void refillsTokens() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final RetryBudget budget = new RetryBudget(1, 2.0d, clock::get);
+        budget.value();
+        clock.set(500_000_000L);
+        new Assertion<>(
+            "Must refill a token in half a second",
+            budget,
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void limitsRetries() {
+        final AtomicInteger calls = new AtomicInteger();
+        final RetryBudget budget = new RetryBudget(1, 0.0d);
+        new Assertion<>(
+            "Must give up when the budget is over",
+            () -> new Retry<String, String>(
+                input -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException(input);
+                },
+                10,
+                (attempt, previous) -> previous,
+                budget
+            ).apply("failed"),
+            new Throws<>("failed", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must retry only once",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -25,8 +25,12 @@ package org.cactoos.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -70,4 +74,127 @@ public final class DirectoryTest {
             new HasSize(4)
         ).affirm();
     }
+
+    @Test
+    public void walksInDepthFirstOrder() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/c"), "".getBytes());
+        new Assertion<>(
+            "must list the directory first and folders before their files",
+            new ListOf<>(new Directory(dir)),
+            new IsEqual<>(
+                new ListOf<>(
+                    dir, dir.resolve("a"), dir.resolve("a/b"),
+                    dir.resolve("a/b/c")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void stopsAtMaximumDepth() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("one/two/three").toFile().mkdirs();
+        new Assertion<>(
+            "must not go deeper than the maximum depth",
+            new Directory(dir, 2),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    public void skipsMatchingSubtrees() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("src/target/classes").toFile().mkdirs();
+        Files.write(dir.resolve("src/target/classes/x.class"), "".getBytes());
+        Files.write(dir.resolve("src/x.java"), "".getBytes());
+        new Assertion<>(
+            "must skip matching paths together with their subtrees",
+            new Directory(
+                dir, FileSystems.getDefault().getPathMatcher("glob:**/target")
+            ),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    public void skipsFilesByAttributes() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("empty").toFile().mkdirs();
+        Files.write(dir.resolve("empty/small"), "".getBytes());
+        Files.write(dir.resolve("empty/large"), "text".getBytes());
+        new Assertion<>(
+            "must skip files by their attributes",
+            new Directory(
+                dir,
+                (path, attrs) -> attrs.isDirectory() || attrs.size() > 0,
+                Integer.MAX_VALUE
+            ),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    public void listsFoldersInParallel() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < 10; ++idx) {
+            dir.resolve(String.format("d%d/e", idx)).toFile().mkdirs();
+            Files.write(
+                dir.resolve(String.format("d%d/e/f", idx)), "".getBytes()
+            );
+        }
+        new Assertion<>(
+            "must list all paths in parallel",
+            new Directory(dir, (path, attrs) -> true, Integer.MAX_VALUE, 4),
+            new HasSize(31)
+        ).affirm();
+    }
+
+    @Test
+    public void listsMorePathsThanBoundToSlowConsumer() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final int files = ForkedWalk.BOUND + 100;
+        for (int idx = 0; idx < files; ++idx) {
+            Files.write(dir.resolve(String.format("f%d", idx)), new byte[0]);
+        }
+        final Iterator<Path> paths = new Directory(
+            dir, (path, attrs) -> true, 1, 2
+        ).iterator();
+        int count = 0;
+        while (paths.hasNext()) {
+            if (count < 200) {
+                Thread.sleep(1L);
+            }
+            paths.next();
+            ++count;
+        }
+        new Assertion<>(
+            "must list all paths when the queue is full",
+            count,
+            new IsEqual<>(files + 1)
+        ).affirm();
+    }
+
+    @Test
+    public void stopsListingWhenAbandoned() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < ForkedWalk.BOUND * 2; ++idx) {
+            Files.write(dir.resolve(String.format("f%d", idx)), new byte[0]);
+        }
+        new Directory(dir, (path, attrs) -> true, 1, 2).iterator().next();
+        boolean running = true;
+        for (int idx = 0; running && idx < 100; ++idx) {
+            System.gc();
+            Thread.sleep(100L);
+            running = Thread.getAllStackTraces().keySet().stream().anyMatch(
+                thread -> thread.getName().startsWith("cactoos-walk")
+            );
+        }
+        new Assertion<>(
+            "must shut the pool down when the walk is abandoned",
+            running,
+            new IsEqual<>(false)
+        ).affirm();
+    }
 }
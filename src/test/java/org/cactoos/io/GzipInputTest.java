@@ -25,12 +25,15 @@
 package org.cactoos.io;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPOutputStream;
 import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.Repeated;
 import org.cactoos.text.TextOf;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -72,4 +75,43 @@ public final class GzipInputTest {
             new GzipInput(new DeadInput())
         ).value();
     }
+
+    @Test
+    public void readsAllMembersFromSlowInput() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final String part : new String[] {"Hello, ", "world!"}) {
+            final GZIPOutputStream gzip = new GZIPOutputStream(out);
+            gzip.write(part.getBytes(StandardCharsets.UTF_8));
+            gzip.finish();
+        }
+        new Assertion<>(
+            "Can't read all members of a gzip input",
+            new TextOf(
+                new GzipInput(
+                    new InputOf(
+                        new SlowInputStream(
+                            new ByteArrayInputStream(out.toByteArray())
+                        )
+                    )
+                )
+            ),
+            new IsText("Hello, world!")
+        ).affirm();
+    }
+
+    @Test
+    public void readsGzipInputAhead() throws Exception {
+        final String content = new Repeated("Hello, world! ", 10_000).asString();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        new Assertion<>(
+            "Can't read a gzip input decompressed ahead",
+            new TextOf(
+                new GzipInput(new InputOf(out.toByteArray()), 1024, 4)
+            ),
+            new IsText(content)
+        ).affirm();
+    }
 }
@@ -34,6 +34,8 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.zip.GZIPOutputStream;
 import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.Repeated;
+import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
@@ -101,4 +103,23 @@ public final class GzipOutputTest {
             )
         ).value();
     }
+
+    @Test
+    public void writesBlocksInParallel() throws Exception {
+        final String content = new Repeated("Hello, world! ", 10_000).asString();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                content,
+                new GzipOutput(new OutputTo(baos), 512, 1000, 3)
+            )
+        ).value();
+        new Assertion<>(
+            "Can't write to a gzip output in parallel",
+            new TextOf(
+                new GzipInput(new InputOf(baos.toByteArray()))
+            ).asString(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
 }
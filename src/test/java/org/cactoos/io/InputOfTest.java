@@ -87,6 +87,26 @@ final class InputOfTest {
         ).affirm();
     }
 
+    @Test
+    void knowsSizeOfFile(final @TempDir Path folder) throws Exception {
+        final Path temp = folder.resolve("cactoos-sized.txt");
+        Files.write(temp, "Hello!".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "must know the size of file in advance",
+            new InputOf(temp).size(),
+            new IsEqual<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotKnowSizeOfStream() throws Exception {
+        new Assertion<>(
+            "must not know the size of stream in advance",
+            new InputOf(new ByteArrayInputStream(new byte[2])).size(),
+            new IsEqual<>(-1L)
+        ).affirm();
+    }
+
     @Test
     void closesInputStream() throws Exception {
         final AtomicBoolean closed = new AtomicBoolean();
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.Sha256DigestOf;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+
+/**
+ * Test case for {@link MappedFile}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedFileTest {
+
+    /**
+     * Content of the file.
+     */
+    private static final String CONTENT = "Hello, товарищ!";
+
+    @Test
+    void readsFileBySegments(@TempDir final Path folder) throws Exception {
+        new Assertion<>(
+            "must read file content mapped by small segments",
+            new MappedFile(MappedFileTest.file(folder), 3),
+            new HasContent(MappedFileTest.CONTENT)
+        ).affirm();
+    }
+
+    @Test
+    void copiesBytes(@TempDir final Path folder) throws Exception {
+        new Assertion<>(
+            "must copy mapped bytes",
+            new BytesOf(new MappedFile(MappedFileTest.file(folder), 5))
+                .asBytes(),
+            new IsEqual<>(
+                MappedFileTest.CONTENT.getBytes(StandardCharsets.UTF_8)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void calculatesLength(@TempDir final Path folder) throws Exception {
+        new Assertion<>(
+            "must calculate length of mapped file",
+            new LengthOf(new MappedFile(MappedFileTest.file(folder))).value(),
+            new IsEqual<>(
+                (long) MappedFileTest.CONTENT.getBytes(
+                    StandardCharsets.UTF_8
+                ).length
+            )
+        ).affirm();
+    }
+
+    @Test
+    void passesBuffersThroughDecorators(@TempDir final Path folder)
+        throws Exception {
+        new Assertion<>(
+            "must pass mapped buffers through decorators",
+            new SyncInput(
+                new CloseShieldInput(
+                    new MappedFile(MappedFileTest.file(folder), 3)
+                )
+            ).buffers().size(),
+            new IsEqual<>(8)
+        ).affirm();
+    }
+
+    @Test
+    void hasNoBuffersOfStream() throws Exception {
+        new Assertion<>(
+            "must have no buffers when the origin has none",
+            new SyncInput(new InputOf(MappedFileTest.CONTENT))
+                .buffers().isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void calculatesDigest(@TempDir final Path folder) throws Exception {
+        final Path file = MappedFileTest.file(folder);
+        new Assertion<>(
+            "must calculate the same digest as the stream",
+            new Sha256DigestOf(new MappedFile(file, 4)).asBytes(),
+            new IsEqual<>(new Sha256DigestOf(new InputOf(file)).asBytes())
+        ).affirm();
+    }
+
+    /**
+     * Create the file.
+     * @param folder Folder for the file
+     * @return The file
+     * @throws Exception If fails
+     */
+    private static Path file(final Path folder) throws Exception {
+        final Path file = folder.resolve("mapped.txt");
+        Files.write(
+            file, MappedFileTest.CONTENT.getBytes(StandardCharsets.UTF_8)
+        );
+        return file;
+    }
+}
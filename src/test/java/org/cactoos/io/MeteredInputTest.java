@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MeteredInput}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MeteredInputTest {
+
+    @Test
+    void countsBytesRead() throws Exception {
+        final Metrics metrics = new Metrics();
+        new LengthOf(
+            new MeteredInput(new InputOf("Hello, world!"), metrics)
+        ).value();
+        new Assertion<>(
+            "Must count bytes read",
+            metrics.snapshot().bytes(),
+            new IsEqual<>(13L)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCountEndOfStream() throws Exception {
+        final Metrics metrics = new Metrics();
+        new LengthOf(new MeteredInput(new DeadInput(), metrics)).value();
+        new Assertion<>(
+            "Must not count reads at the end of the stream",
+            metrics.snapshot().operations(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void countsReadsOfAllStreams() throws Exception {
+        final Metrics metrics = new Metrics();
+        final MeteredInput input = new MeteredInput(
+            new InputOf(new byte[100]), metrics
+        );
+        new LengthOf(input).value();
+        new LengthOf(input).value();
+        new Assertion<>(
+            "Must count reads of all streams",
+            metrics.snapshot().bytes(),
+            new IsEqual<>(200L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MeteredOutput}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MeteredOutputTest {
+
+    @Test
+    void countsWrites() throws Exception {
+        final Metrics metrics = new Metrics();
+        try (OutputStream out = new MeteredOutput(
+            new OutputTo(new ByteArrayOutputStream()), metrics
+        ).stream()) {
+            out.write(new byte[10]);
+            out.write(1);
+        }
+        new Assertion<>(
+            "Must count writes",
+            metrics.snapshot().operations(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void writesThrough() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new MeteredOutput(
+            new OutputTo(bytes), new Metrics()
+        ).stream()) {
+            out.write("Hello".getBytes());
+        }
+        new Assertion<>(
+            "Must write all bytes",
+            bytes.toString(),
+            new IsEqual<>("Hello")
+        ).affirm();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link Metrics}.
+ *
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class MetricsTest {
+
+    @Test
+    void takesSizeQuantiles() {
+        final Metrics metrics = new Metrics();
+        for (int idx = 0; idx < 99; ++idx) {
+            metrics.record(100L, 10L);
+        }
+        metrics.record(5000L, 10L);
+        new Assertion<>(
+            "Must take the median size from its bucket",
+            metrics.snapshot().size(0.5d),
+            new IsEqual<>(127L)
+        ).affirm();
+    }
+
+    @Test
+    void takesHighestQuantile() {
+        final Metrics metrics = new Metrics();
+        metrics.record(1L, 10L);
+        metrics.record(1L, 3000L);
+        new Assertion<>(
+            "Must take the highest latency from its bucket",
+            metrics.snapshot().latency(1.0d),
+            new IsEqual<>(4095L)
+        ).affirm();
+    }
+
+    @Test
+    void calculatesThroughput() {
+        final Metrics metrics = new Metrics();
+        metrics.record(500L, 250_000_000L);
+        new Assertion<>(
+            "Must calculate bytes per second",
+            metrics.snapshot().throughput(),
+            new IsEqual<>(2000.0d)
+        ).affirm();
+    }
+
+    @Test
+    void logsSampledOperations() {
+        final Logger logger = new FakeLogger(Level.FINE);
+        new Metrics("disk", logger, Level.FINE, 1L).record(10L, 10L);
+        new Assertion<>(
+            "Must log the sampled operation",
+            new TextOf(logger.toString()),
+            new HasString("disk: 1 operation(s), 10 byte(s) in 10ns")
+        ).affirm();
+    }
+
+    @Test
+    void doesNotLogBelowLevel() {
+        final Logger logger = new FakeLogger(Level.INFO);
+        new Metrics("disk", logger, Level.FINE, 1L).record(10L, 10L);
+        new Assertion<>(
+            "Must not log below the level of the logger",
+            new TextOf(logger.toString()),
+            new IsNot<>(new HasString("disk"))
+        ).affirm();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ReadAheadStream}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReadAheadStreamTest {
+
+    @Test
+    void readsStreamAhead() {
+        new Assertion<>(
+            "Must read all chunks of the stream",
+            new TextOf(
+                new InputOf(
+                    new ReadAheadStream(
+                        new InputStreamOf("Hello, world!"), 3, 2
+                    )
+                )
+            ),
+            new IsText("Hello, world!")
+        ).affirm();
+    }
+
+    @Test
+    void reportsRuntimeErrorOfStream() {
+        new Assertion<>(
+            "Must not end the stream on a runtime error",
+            () -> new ReadAheadStream(
+                new InputStream() {
+                    @Override
+                    public int read() {
+                        throw new IllegalStateException("broken");
+                    }
+                },
+                4, 2
+            ).read(),
+            new Throws<>(
+                "java.lang.IllegalStateException: broken", IOException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void closesStreamBeingRead() throws Exception {
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final InputStream stream = new ReadAheadStream(
+            new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    reading.countDown();
+                    try {
+                        closed.await();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(ex);
+                    }
+                    throw new IOException("closed");
+                }
+
+                @Override
+                public void close() {
+                    closed.countDown();
+                }
+            },
+            4, 2
+        );
+        reading.await();
+        stream.close();
+        new Assertion<>(
+            "Must close the stream being read",
+            closed.getCount(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+}
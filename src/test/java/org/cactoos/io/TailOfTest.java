@@ -34,6 +34,7 @@ import org.llorllale.cactoos.matchers.Assertion;
  * Tests for {@link TailOf}.
  * @since 0.30
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class TailOfTest {
 
@@ -133,6 +134,25 @@ public final class TailOfTest {
         ).asBytes();
     }
 
+    @Test
+    public void tailsInManyChunks() throws Exception {
+        final int size = 100;
+        final byte[] bytes = this.generate(size);
+        new Assertion<>(
+            "Can't tail stream read in many chunks",
+            new BytesOf(
+                new TailOf(
+                    new InputOf(new BytesOf(bytes)),
+                    7,
+                    9
+                )
+            ).asBytes(),
+            new IsEqual<>(
+                Arrays.copyOfRange(bytes, size - 7, size)
+            )
+        ).affirm();
+    }
+
     /**
      * Generate random byte array.
      * @param size Size of array
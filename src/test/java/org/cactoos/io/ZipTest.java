@@ -26,11 +26,18 @@ package org.cactoos.io;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.list.ListOf;
+import org.cactoos.scalar.LengthOf;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
 import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
@@ -101,4 +108,162 @@ public final class ZipTest {
             ).affirm();
         }
     }
+
+    @Test
+    public void storesAndDeflatesFilesInParallel() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(dir.resolve("a.txt"), "hello, world".getBytes());
+        Files.write(dir.resolve("b.gz"), "already compressed".getBytes());
+        Files.write(dir.resolve("c.txt"), new byte[100_000]);
+        try (ZipInputStream input = new ZipInputStream(
+            new Zip(
+                new Directory(dir),
+                Deflater.BEST_SPEED,
+                path -> path.toString().endsWith(".gz"),
+                2
+            ).stream()
+        )) {
+            final List<String> entries = new ArrayList<>(4);
+            ZipEntry entry = input.getNextEntry();
+            while (entry != null) {
+                entries.add(
+                    String.format(
+                        "%s:%d:%d",
+                        dir.relativize(Paths.get(entry.getName())),
+                        entry.getMethod(),
+                        new BytesOf(
+                            new InputOf(new CloseShieldInputStream(input))
+                        ).asBytes().length
+                    )
+                );
+                entry = input.getNextEntry();
+            }
+            new Assertion<>(
+                "Must store and deflate files",
+                entries,
+                IsIterableContainingInAnyOrder.containsInAnyOrder(
+                    ":0:0",
+                    "a.txt:8:12",
+                    "b.gz:0:18",
+                    "c.txt:8:100000"
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void storesAndDeflatesFilesInOneThread() throws Exception {
+        final Path dir = this.files();
+        new Assertion<>(
+            "Must write the central directory in one thread",
+            ZipTest.entries(this.archive(dir, 1), dir),
+            IsIterableContainingInAnyOrder.containsInAnyOrder(
+                ":0:0",
+                "a.txt:8:12",
+                "b.gz:0:18",
+                "c.txt:8:100000"
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void writesCentralDirectoryInParallel() throws Exception {
+        final Path dir = this.files();
+        new Assertion<>(
+            "Must write the central directory in threads",
+            ZipTest.entries(this.archive(dir, 3), dir),
+            IsIterableContainingInAnyOrder.containsInAnyOrder(
+                ":0:0",
+                "a.txt:8:12",
+                "b.gz:0:18",
+                "c.txt:8:100000"
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void writesZipSixtyFourForManyEntries() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx <= 0xFFFF; ++idx) {
+            Files.write(dir.resolve(String.format("f%d", idx)), new byte[0]);
+        }
+        try (ZipFile zip = new ZipFile(this.archive(dir, 1).toFile())) {
+            new Assertion<>(
+                "Must count more entries than a short holds",
+                zip.size(),
+                new IsEqual<>(0x10001)
+            ).affirm();
+        }
+    }
+
+    /**
+     * Make files to archive.
+     * @return The folder with them
+     * @throws Exception If fails
+     */
+    private Path files() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(dir.resolve("a.txt"), "hello, world".getBytes());
+        Files.write(dir.resolve("b.gz"), "already compressed".getBytes());
+        Files.write(dir.resolve("c.txt"), new byte[100_000]);
+        return dir;
+    }
+
+    /**
+     * Archive the folder into a file, storing gzip files.
+     * @param dir The folder
+     * @param threads Number of threads
+     * @return The archive
+     * @throws Exception If fails
+     */
+    private Path archive(final Path dir, final int threads) throws Exception {
+        final Path zip = this.folder.newFile().toPath();
+        new LengthOf(
+            new TeeInput(
+                new Zip(
+                    new Directory(dir),
+                    Deflater.BEST_SPEED,
+                    path -> path.toString().endsWith(".gz"),
+                    threads
+                ),
+                zip
+            )
+        ).value();
+        return zip;
+    }
+
+    /**
+     * Read the entries of the archive through its central directory.
+     * @param zip The archive
+     * @param dir The folder archived
+     * @return Names, methods and sizes of entries, checked by CRC
+     * @throws Exception If fails
+     */
+    private static List<String> entries(final Path zip, final Path dir)
+        throws Exception {
+        final List<String> entries = new ArrayList<>(4);
+        try (ZipFile file = new ZipFile(zip.toFile())) {
+            for (final ZipEntry entry : Collections.list(file.entries())) {
+                final byte[] bytes = new BytesOf(
+                    new InputOf(file.getInputStream(entry))
+                ).asBytes();
+                final CRC32 crc = new CRC32();
+                crc.update(bytes);
+                new Assertion<>(
+                    "Must match the CRC of the entry",
+                    crc.getValue(),
+                    new IsEqual<>(entry.getCrc())
+                ).affirm();
+                entries.add(
+                    String.format(
+                        "%s:%d:%d",
+                        dir.relativize(Paths.get(entry.getName())),
+                        entry.getMethod(),
+                        bytes.length
+                    )
+                );
+            }
+        }
+        return entries;
+    }
 }
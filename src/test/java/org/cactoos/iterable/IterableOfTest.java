@@ -23,6 +23,10 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.cactoos.list.ListOf;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
@@ -157,4 +161,25 @@ final class IterableOfTest {
             new IsEqual<>(new IterableOf<>(1, 2).hashCode())
         ).affirm();
     }
+
+    @Test
+    void splitsArrayInParallel() {
+        final Iterable<Integer> iterable = new IterableOf<>(1, 2, 3, 4, 5);
+        new Assertion<>(
+            "Must know the size of an array",
+            iterable.spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(5L)
+        ).affirm();
+        new Assertion<>(
+            "Must keep the order in a parallel stream",
+            StreamSupport.stream(iterable.spliterator(), true)
+                .collect(Collectors.toList()),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 4, 5))
+        ).affirm();
+        new Assertion<>(
+            "Must split an array in parts of known size",
+            iterable.spliterator().hasCharacteristics(Spliterator.SUBSIZED),
+            new IsTrue()
+        ).affirm();
+    }
 }
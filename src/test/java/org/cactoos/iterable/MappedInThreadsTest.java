@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MappedInThreads}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedInThreadsTest {
+
+    @Test
+    void mapsInOrder() {
+        new Assertion<>(
+            "Must map all items in order",
+            new ListOf<>(
+                new MappedInThreads<>(
+                    (String input) -> input.length(),
+                    new IterableOf<>("a", "bb", "ccc")
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void iteratesTwice() {
+        final Iterable<Integer> mapped = new MappedInThreads<>(
+            2,
+            (Integer input) -> input + 1,
+            new IterableOf<>(1, 2)
+        );
+        new ListOf<>(mapped);
+        new Assertion<>(
+            "Must map again",
+            new ListOf<>(mapped),
+            new IsEqual<>(new ListOf<>(2, 3))
+        ).affirm();
+    }
+}
@@ -24,6 +24,8 @@
 package org.cactoos.iterable;
 
 import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.cactoos.text.Upper;
@@ -89,4 +91,23 @@ final class MappedTest {
             new IsEqual<>(new IterableOf<>("A", "B", "C"))
         ).affirm();
     }
+
+    @Test
+    void keepsSizeOfSource() {
+        final Iterable<Integer> mapped = new Mapped<>(
+            (Integer input) -> input * 2,
+            new IterableOf<>(1, 2, 3)
+        );
+        new Assertion<>(
+            "Must keep the size of the source",
+            mapped.spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(3L)
+        ).affirm();
+        new Assertion<>(
+            "Must map in a parallel stream",
+            StreamSupport.stream(mapped.spliterator(), true)
+                .collect(Collectors.toList()),
+            new IsEqual<>(new ListOf<>(2, 4, 6))
+        ).affirm();
+    }
 }
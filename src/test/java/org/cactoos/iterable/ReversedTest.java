@@ -23,6 +23,8 @@
  */
 package org.cactoos.iterable;
 
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.hamcrest.collection.IsEmptyIterable;
 import org.hamcrest.core.IsEqual;
@@ -119,4 +121,15 @@ public final class ReversedTest {
             new IsNot<>(new IsEmptyIterable<>())
         ).affirm();
     }
+
+    @Test
+    public void reversesInParallel() {
+        new Assertion<>(
+            "Must reverse in a parallel stream",
+            StreamSupport.stream(
+                new Reversed<>(1, 2, 3, 4).spliterator(), true
+            ).collect(Collectors.toList()),
+            new IsEqual<>(new ListOf<>(4, 3, 2, 1))
+        ).affirm();
+    }
 }
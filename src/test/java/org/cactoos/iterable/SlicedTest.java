@@ -23,6 +23,9 @@
  */
 package org.cactoos.iterable;
 
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -51,4 +54,22 @@ final class SlicedTest {
             )
         ).affirm();
     }
+
+    @Test
+    void slicesInParallel() {
+        final Iterable<Integer> sliced = new Sliced<>(
+            2, 3, new IterableOf<>(1, 2, 3, 4, 5, 6, 7)
+        );
+        new Assertion<>(
+            "Must know the size of the slice",
+            sliced.spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(3L)
+        ).affirm();
+        new Assertion<>(
+            "Must slice in a parallel stream",
+            StreamSupport.stream(sliced.spliterator(), true)
+                .collect(Collectors.toList()),
+            new IsEqual<>(new ListOf<>(3, 4, 5))
+        ).affirm();
+    }
 }
@@ -24,6 +24,7 @@
 package org.cactoos.iterable;
 
 import java.util.Collections;
+import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.LengthOf;
@@ -72,4 +73,18 @@ final class StickyTest {
             new IsEqual<>(new IterableOf<>(1, 2))
         ).affirm();
     }
+
+    @Test
+    void splitsMaterializedItems() {
+        new Assertion<>(
+            "Must split the items in parts of known size",
+            new Sticky<>(
+                new Mapped<>(
+                    (Integer input) -> input + 1,
+                    new IterableOf<>(1, 2, 3)
+                )
+            ).spliterator().hasCharacteristics(Spliterator.SUBSIZED),
+            new IsEqual<>(true)
+        ).affirm();
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedInThreads}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedInThreadsTest {
+
+    @Test
+    void keepsOrderOfSource() {
+        new Assertion<>(
+            "Must keep the order of the source",
+            new ListOf<>(
+                new MappedInThreads<Integer>(
+                    4,
+                    (Integer input) -> {
+                        Thread.sleep((5L - input) * 10L);
+                        return input * 10;
+                    },
+                    new IteratorOf<>(1, 2, 3, 4, 5)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(10, 20, 30, 40, 50))
+        ).affirm();
+    }
+
+    @Test
+    void readsSourceNotFurtherThanWindow() {
+        final AtomicInteger read = new AtomicInteger();
+        final Iterator<Integer> mapped = new MappedInThreads<>(
+            2,
+            (Integer input) -> input,
+            new Mapped<>(
+                input -> {
+                    read.incrementAndGet();
+                    return input;
+                },
+                new IteratorOf<>(1, 2, 3, 4, 5, 6)
+            )
+        );
+        mapped.next();
+        new Assertion<>(
+            "Must not read more than the window ahead",
+            read.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void throwsFailureOfFunc() {
+        new Assertion<>(
+            "Must throw the failure of the func",
+            () -> new MappedInThreads<String>(
+                (String input) -> {
+                    throw new IOException(input);
+                },
+                new IteratorOf<>("broken")
+            ).next(),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void mapsEmptySource() {
+        new Assertion<>(
+            "Must be empty",
+            new MappedInThreads<String>(
+                (String input) -> input,
+                new IteratorOf<String>()
+            ).hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void endsThreadsOfAbandonedIterator() throws Exception {
+        final List<Thread> workers = new CopyOnWriteArrayList<>();
+        final Iterator<Integer> mapped = new MappedInThreads<Integer>(
+            2,
+            (Integer input) -> {
+                workers.add(Thread.currentThread());
+                return input;
+            },
+            new IteratorOf<>(1, 2, 3, 4, 5)
+        );
+        mapped.next();
+        boolean alive = false;
+        for (final Thread worker : workers) {
+            worker.join(10_000L);
+            alive |= worker.isAlive();
+        }
+        new Assertion<>(
+            "Must end the threads of an iterator left before its end",
+            alive,
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void reusesThreadsOfIterator() {
+        final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        new ListOf<>(
+            new MappedInThreads<Integer>(
+                2,
+                (Integer input) -> {
+                    workers.add(Thread.currentThread());
+                    return input;
+                },
+                new IteratorOf<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+            )
+        ).size();
+        new Assertion<>(
+            "Must not use more threads than items mapped at once",
+            workers.size(),
+            Matchers.lessThanOrEqualTo(2)
+        ).affirm();
+    }
+}
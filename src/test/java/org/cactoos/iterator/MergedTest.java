@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test Case for {@link Merged}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MergedTest {
+
+    @Test
+    void mergesSortedIterators() {
+        new Assertion<>(
+            "Must merge sorted iterators",
+            new ListOf<>(
+                new Merged<Integer>(
+                    Comparator.naturalOrder(),
+                    new IteratorOf<>(1, 4, 7),
+                    new IteratorOf<>(),
+                    new IteratorOf<>(2, 5, 8, 9),
+                    new IteratorOf<>(3)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 4, 5, 7, 8, 9))
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfEqualElements() {
+        new Assertion<>(
+            "Must return equal elements in the order of iterators",
+            new ListOf<>(
+                new Merged<String>(
+                    Comparator.comparing(String::length),
+                    new IteratorOf<>("a", "ccc"),
+                    new IteratorOf<>("b", "dd")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b", "dd", "ccc"))
+        ).affirm();
+    }
+
+    @Test
+    void readsNothingBeforeFirstRequest() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Iterator<Integer> merged = new Merged<Integer>(
+            Comparator.naturalOrder(),
+            new Mapped<>(
+                item -> {
+                    reads.incrementAndGet();
+                    return item;
+                },
+                new IteratorOf<>(1, 2)
+            )
+        );
+        new Assertion<>(
+            "Must not read iterators in constructor",
+            reads.get(),
+            new IsEqual<>(0)
+        ).affirm();
+        new Assertion<>(
+            "Must read heads on the first request",
+            merged.next(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
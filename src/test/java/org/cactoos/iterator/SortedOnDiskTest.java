@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test Case for {@link SortedOnDisk}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SortedOnDiskTest {
+
+    @Test
+    void sortsInMemory() {
+        new Assertion<>(
+            "Must sort elements that fit into memory",
+            new ListOf<>(
+                new SortedOnDisk<Integer>(
+                    Comparator.naturalOrder(),
+                    new IteratorOf<>(3, 1, 2)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void sortsWithSpilledRuns() {
+        new Assertion<>(
+            "Must sort elements that don't fit into memory",
+            new ListOf<>(
+                new SortedOnDisk<Integer>(
+                    Comparator.reverseOrder(),
+                    2,
+                    new IteratorOf<>(5, 9, 1, 7, 3, 8, 2, 6, 4)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(9, 8, 7, 6, 5, 4, 3, 2, 1))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyBudget() {
+        new Assertion<>(
+            "Must reject non-positive budget",
+            () -> new SortedOnDisk<Integer>(
+                Comparator.naturalOrder(), 0, new IteratorOf<>(1)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.io.OutputTo;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test Case for {@link Spilled}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SpilledTest {
+
+    @Test
+    void deletesFileAfterLastElement(@TempDir final Path folder)
+        throws Exception {
+        final Path file = SpilledTest.run(folder);
+        final Spilled<String> run = new Spilled<>(file, 2);
+        run.next();
+        run.next();
+        new Assertion<>(
+            "Must delete the file after the last element",
+            Files.exists(file),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void deletesFileOfAbandonedRun(@TempDir final Path folder)
+        throws Exception {
+        final Path file = SpilledTest.run(folder);
+        final Spilled<String> run = new Spilled<>(file, 2);
+        run.next();
+        run.delete();
+        new Assertion<>(
+            "Must delete the file of a run not read to the end",
+            Files.exists(file),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must have no more elements after deletion",
+            run.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void deletesFileWhenReadingFails(@TempDir final Path folder)
+        throws Exception {
+        final Path file = SpilledTest.run(folder);
+        final Spilled<String> run = new Spilled<>(file, 3);
+        run.next();
+        run.next();
+        new Assertion<>(
+            "Must fail to read more elements than the file has",
+            run::next,
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must delete the file when reading fails",
+            Files.exists(file),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must have no more elements after failure",
+            run.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    /**
+     * Write a run of two elements.
+     * @param folder Where to write it
+     * @return The file
+     * @throws Exception If fails
+     */
+    private static Path run(final Path folder) throws Exception {
+        final Path file = folder.resolve("a.run");
+        try (ObjectOutputStream out = new ObjectOutputStream(
+            new OutputTo(file).stream()
+        )) {
+            out.writeObject("a");
+            out.writeObject("b");
+        }
+        return file;
+    }
+}
@@ -25,6 +25,7 @@ package org.cactoos.iterator;
 
 import java.util.NoSuchElementException;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -35,6 +36,7 @@ import org.llorllale.cactoos.matchers.Throws;
  * Test case for {@link TailOf}.
  * @since 0.31
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 final class TailOfTest {
 
@@ -103,4 +105,29 @@ final class TailOfTest {
             new Throws<>(NoSuchElementException.class)
         ).affirm();
     }
+
+    @Test
+    void tailsLongIteratorWithNulls() {
+        new Assertion<>(
+            "Must keep only the last elements of a long iterator",
+            new ListOf<>(
+                new TailOf<>(
+                    3,
+                    new Mapped<>(
+                        num -> {
+                            final Integer res;
+                            if (num % 2 == 0) {
+                                res = null;
+                            } else {
+                                res = num;
+                            }
+                            return res;
+                        },
+                        new RangeOf<>(1, 100, num -> num + 1)
+                    )
+                )
+            ),
+            new IsEqual<>(new ListOf<>(null, 99, null))
+        ).affirm();
+    }
 }
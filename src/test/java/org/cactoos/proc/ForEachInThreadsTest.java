@@ -24,6 +24,7 @@
 package org.cactoos.proc;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Synced;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
@@ -66,4 +67,22 @@ public class ForEachInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void runsNotMoreThanGivenNumberOfThreads() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        new ForEachInThreads<Integer>(
+            2,
+            item -> {
+                most.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10L);
+                running.decrementAndGet();
+            }
+        ).exec(new ListOf<>(1, 2, 3, 4, 5, 6));
+        new Assertion<>(
+            "Must not process more than two elements at once",
+            most.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
 }
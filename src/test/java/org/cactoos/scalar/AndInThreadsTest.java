@@ -24,8 +24,11 @@
 package org.cactoos.scalar;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
@@ -40,6 +43,7 @@ import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link AndInThreads}.
@@ -223,4 +227,110 @@ final class AndInThreadsTest {
         );
     }
 
+    @Test
+    void stopsAtFirstFalse() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must not run scalars after the first false",
+            new AndInThreads(
+                1,
+                new ListOf<Scalar<Boolean>>(
+                    () -> calls.incrementAndGet() > 0,
+                    () -> calls.incrementAndGet() < 0,
+                    () -> calls.incrementAndGet() > 0,
+                    () -> calls.incrementAndGet() > 0
+                )
+            ),
+            new HasValue<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must run only two scalars",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void runsNotMoreThanGivenThreads() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        final Scalar<Boolean> task = () -> {
+            most.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10L);
+            running.decrementAndGet();
+            return true;
+        };
+        new Assertion<>(
+            "Must be true",
+            new AndInThreads(
+                2,
+                new ListOf<>(task, task, task, task, task, task)
+            ),
+            new HasValue<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must not run more than two scalars at once",
+            most.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsRunningScalars() throws Exception {
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        new Assertion<>(
+            "Must be false",
+            new AndInThreads(
+                new ListOf<Scalar<Boolean>>(
+                    () -> {
+                        try {
+                            Thread.sleep(Long.MAX_VALUE);
+                        } catch (final InterruptedException ex) {
+                            cancelled.countDown();
+                        }
+                        return true;
+                    },
+                    () -> {
+                        Thread.sleep(10L);
+                        return false;
+                    }
+                )
+            ),
+            new HasValue<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the running scalar",
+            cancelled.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void reusesGivenNumberOfThreads() throws Exception {
+        final Scalar<Boolean> and = new AndInThreads(
+            2, new ListOf<Scalar<Boolean>>(new True(), new True())
+        );
+        and.value();
+        new Assertion<>(
+            "Must be calculated again",
+            and,
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveThreads() {
+        final ExecutorService svc = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must reject a non-positive number of threads",
+                () -> new AndInThreads(
+                    svc, 0, new IterableOf<Scalar<Boolean>>(() -> true)
+                ).value(),
+                new Throws<>(IllegalArgumentException.class)
+            ).affirm();
+        } finally {
+            svc.shutdown();
+        }
+    }
 }
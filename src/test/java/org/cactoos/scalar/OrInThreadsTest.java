@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link OrInThreads}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("unchecked")
+final class OrInThreadsTest {
+
+    @Test
+    void allFalse() throws Exception {
+        new Assertion<>(
+            "Must be false",
+            new OrInThreads(new False(), new False(), new False()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void oneTrue() throws Exception {
+        new Assertion<>(
+            "Must be true",
+            new OrInThreads(new False(), new True(), new False()),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() throws Exception {
+        new Assertion<>(
+            "Must be false for empty iterable",
+            new OrInThreads(new ListOf<Scalar<Boolean>>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithFunc() throws Exception {
+        new Assertion<>(
+            "Must find the matching item",
+            new OrInThreads(
+                input -> input > 2,
+                1, 2, 3
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithExecService() throws Exception {
+        new Assertion<>(
+            "Must be true with the given service",
+            new OrInThreads(
+                Executors.newSingleThreadExecutor(),
+                new False(),
+                new True()
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void stopsAtFirstTrue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must not run scalars after the first true",
+            new OrInThreads(
+                1,
+                new ListOf<Scalar<Boolean>>(
+                    () -> calls.incrementAndGet() < 0,
+                    () -> calls.incrementAndGet() > 0,
+                    () -> calls.incrementAndGet() < 0
+                )
+            ),
+            new HasValue<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must run only two scalars",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveThreads() {
+        final ExecutorService svc = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must reject a non-positive number of threads",
+                () -> new OrInThreads(
+                    svc, 0, new IterableOf<Scalar<Boolean>>(() -> true)
+                ).value(),
+                new Throws<>(IllegalArgumentException.class)
+            ).affirm();
+        } finally {
+            svc.shutdown();
+        }
+    }
+}
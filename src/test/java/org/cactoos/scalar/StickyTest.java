@@ -24,10 +24,13 @@
 package org.cactoos.scalar;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
 
 /**
  * Test case for {@link Sticky}.
@@ -49,4 +52,36 @@ final class StickyTest {
         ).affirm();
     }
 
+    @Test
+    void cachesNullResult() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Object> scalar = new Sticky<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        scalar.value();
+        new Assertion<>(
+            "must cache NULL value",
+            scalar.value(),
+            new IsNull<>()
+        ).affirm();
+        new Assertion<>(
+            "must compute NULL value only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void computesOnceInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Sticky<>(calls::incrementAndGet);
+        new Assertion<>(
+            "must compute value only once in multiple threads",
+            ignored -> scalar.value() == 1,
+            new RunsInThreads<>(new AtomicInteger())
+        ).affirm();
+    }
 }
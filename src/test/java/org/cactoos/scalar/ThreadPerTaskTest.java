@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ThreadPerTask}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ThreadPerTaskTest {
+
+    @Test
+    void runsTasks() throws Exception {
+        final ExecutorService svc = new ThreadPerTask().value();
+        try {
+            new Assertion<>(
+                "Must run the task",
+                svc.submit(() -> "done").get(),
+                new IsEqual<>("done")
+            ).affirm();
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    void makesNewServiceEveryTime() throws Exception {
+        final ExecutorService first = new ThreadPerTask().value();
+        first.shutdown();
+        final ExecutorService second = new ThreadPerTask().value();
+        try {
+            new Assertion<>(
+                "Must not be shut down",
+                second.isShutdown(),
+                new IsEqual<>(false)
+            ).affirm();
+        } finally {
+            second.shutdown();
+            second.awaitTermination(1L, TimeUnit.SECONDS);
+        }
+    }
+}
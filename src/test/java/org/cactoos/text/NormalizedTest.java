@@ -43,4 +43,12 @@ final class NormalizedTest {
         ).affirm();
     }
 
+    @Test
+    void keepsNonWhitespaceControlCharacters() {
+        new Assertion<>(
+            "Can't normalize a text with control characters",
+            new Normalized("a\u000b\f\r\nb\u0001 \u0001c"),
+            new HasString("a b\u0001 \u0001c")
+        ).affirm();
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Regex}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RegexTest {
+
+    @Test
+    void compilesPlainRegexAsLiteral() {
+        new Assertion<>(
+            "Must compile regex without metacharacters as literal",
+            Regex.literal(new Regex("\t").value()),
+            new IsEqual<>("\t")
+        ).affirm();
+    }
+
+    @Test
+    void compilesEscapedCharacterAsLiteral() {
+        new Assertion<>(
+            "Must compile escaped metacharacter as literal",
+            Regex.literal(new Regex("\\|").value()),
+            new IsEqual<>("|")
+        ).affirm();
+    }
+
+    @Test
+    void compilesRegexWithMetacharacters() {
+        new Assertion<>(
+            "Must compile regex with metacharacters as regex",
+            Regex.literal(new Regex("\\s+").value()),
+            new IsEqual<>("")
+        ).affirm();
+    }
+
+    @Test
+    void keepsCompiledPattern() {
+        new Assertion<>(
+            "Must not treat pattern with other flags as literal",
+            Regex.literal(
+                Pattern.compile(
+                    "a", Pattern.LITERAL | Pattern.CASE_INSENSITIVE
+                )
+            ),
+            new IsEqual<>("")
+        ).affirm();
+    }
+}
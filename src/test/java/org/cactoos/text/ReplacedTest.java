@@ -189,4 +189,30 @@ final class ReplacedTest {
             new HasString("3 3 GHI1JKL")
         ).affirm();
     }
+
+    @Test
+    void replacesWithCompiledPattern() {
+        new Assertion<>(
+            "Cannot replace with compiled pattern and group references",
+            new Replaced(
+                new TextOf("alice@home bob@work"),
+                Pattern.compile("(\\w+)@(\\w+)"),
+                "$2:$1"
+            ),
+            new HasString("home:alice work:bob")
+        ).affirm();
+    }
+
+    @Test
+    void replacesEscapedMetacharacter() {
+        new Assertion<>(
+            "Cannot replace escaped metacharacter",
+            new Replaced(
+                new TextOf("a.b.c"),
+                "\\.",
+                "::"
+            ),
+            new HasString("a::b::c")
+        ).affirm();
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.io.OutputTo;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Rope}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class RopeTest {
+
+    @Test
+    void concatenatesNestedRopes() {
+        new Assertion<>(
+            "Must concatenate nested ropes",
+            new Rope(
+                new Joined(", ", "a", "b"),
+                new TextOf(""),
+                new Concatenated(new Joined("-", "c", "d"), new TextOf("e"))
+            ),
+            new HasString("a, bc-de")
+        ).affirm();
+    }
+
+    @Test
+    void joinsWithDelimiter() {
+        new Assertion<>(
+            "Must join parts with delimiter",
+            new Rope(
+                new TextOf("; "),
+                new ListOf<>(new TextOf("x"), new TextOf(""), new TextOf("y"))
+            ),
+            new HasString("x; ; y")
+        ).affirm();
+    }
+
+    @Test
+    void measuresLength() throws Exception {
+        new Assertion<>(
+            "Must measure length of nested ropes",
+            new Rope(
+                new Joined(",", "ab", "c"),
+                new Concatenated("def", "")
+            ).length(),
+            new IsEqual<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void cutsAcrossParts() throws Exception {
+        new Assertion<>(
+            "Must cut substring across parts",
+            new Rope(
+                new TextOf("abc"), new Concatenated("d", "efg")
+            ).sub(2, 6),
+            new IsEqual<>("cdef")
+        ).affirm();
+    }
+
+    @Test
+    void failsToCutOutOfBounds() {
+        new Assertion<>(
+            "Must fail to cut substring out of bounds",
+            () -> new Rope(new TextOf("ab"), new TextOf("c")).sub(1, 4),
+            new Throws<>(StringIndexOutOfBoundsException.class)
+        ).affirm();
+    }
+
+    @Test
+    void checksPrefixAcrossParts() throws Exception {
+        new Assertion<>(
+            "Must check prefix across parts",
+            new Rope(
+                new TextOf("ab"), new TextOf(""), new TextOf("cd")
+            ).startsWith("abc"),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void checksSuffixAcrossParts() throws Exception {
+        new Assertion<>(
+            "Must check suffix across parts",
+            new Rope(new TextOf("ab"), new TextOf("cd")).endsWith("acd"),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void writesToOutput() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new Rope(
+            new Joined(" ", "\u0432\u0441\u0435\u043c", "hello")
+        ).writeTo(new OutputTo(out));
+        new Assertion<>(
+            "Must write parts to output",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("\u0432\u0441\u0435\u043c hello")
+        ).affirm();
+    }
+
+    @Test
+    void equalsToTextWithSameContent() {
+        new Assertion<>(
+            "Must be equal to text with the same content",
+            new Rope(new TextOf("a"), new TextOf("b")),
+            new IsEqual<>(new TextOf("ab"))
+        ).affirm();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SplitIterator}.
+ * @since 0.57
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SplitIteratorTest {
+
+    @Test
+    void splitsLikePattern() throws Exception {
+        final String text = new Repeated(",a,,b(c)d,,", 5000).asString();
+        for (final String rgx : new IterableOf<>(",", ",+", "\\(", "", "b?")) {
+            new Assertion<>(
+                String.format("Must split like Pattern with '%s'", rgx),
+                new ListOf<>(
+                    new Mapped<>(
+                        Text::asString,
+                        new IterableOf<>(
+                            () -> new SplitIterator(
+                                new StringReader(text), rgx, 0
+                            )
+                        )
+                    )
+                ),
+                new IsEqual<>(
+                    new ListOf<>(Pattern.compile(rgx).split(text))
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsWholeEmptyText() {
+        new Assertion<>(
+            "Must return empty text if there are no delimiters",
+            new IterableOf<>(
+                new SplitIterator(new StringReader(""), ",", 0)
+            ),
+            new IsEqual<>(new IterableOf<>(new TextOf("")))
+        ).affirm();
+    }
+
+    @Test
+    void throwsWhenExhausted() {
+        new Assertion<>(
+            "Must throw when there are no more tokens",
+            () -> new SplitIterator(new StringReader(",,"), ",", 0).next(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
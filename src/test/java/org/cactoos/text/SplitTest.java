@@ -23,8 +23,11 @@
  */
 package org.cactoos.text;
 
+import java.util.regex.Pattern;
 import org.cactoos.Text;
+import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.LengthOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -132,4 +135,56 @@ final class SplitTest {
             )
         ).affirm();
     }
+
+    @Test
+    void splitInputByLiteralNewline() throws Exception {
+        new Assertion<>(
+            "Must split input by newline",
+            new Split(new InputOf("first\nsecond\n\nthird\n\n"), "\n"),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("first"), new TextOf("second"),
+                    new TextOf(""), new TextOf("third")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void splitInputWithPatternAndLimit() throws Exception {
+        new Assertion<>(
+            "Must split input with compiled pattern and limit",
+            new Split(new InputOf("a1b22c333d"), Pattern.compile("\\d+"), 3),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("a"), new TextOf("b"), new TextOf("c333d")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void splitTextWithPattern() throws Exception {
+        new Assertion<>(
+            "Must split text with compiled pattern",
+            new Split(new TextOf("x\ty\t\tz"), Pattern.compile("\t+")),
+            new IsEqual<>(
+                new IterableOf<>(new TextOf("x"), new TextOf("y"), new TextOf("z"))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void splitLongInputByTab() throws Exception {
+        new Assertion<>(
+            "Must split long input by tab",
+            new LengthOf(
+                new Split(
+                    new InputOf(new Repeated("value\t", 100_000)),
+                    "\t"
+                )
+            ).value(),
+            new IsEqual<>(100_000L)
+        ).affirm();
+    }
 }